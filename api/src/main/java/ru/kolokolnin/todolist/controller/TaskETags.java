@@ -0,0 +1,52 @@
+package ru.kolokolnin.todolist.controller;
+
+import ru.kolokolnin.todolist.dto.TaskResponse;
+import ru.kolokolnin.todolist.exception.PreconditionFailedException;
+
+import java.util.UUID;
+
+public final class TaskETags {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private TaskETags() {
+    }
+
+    public static String of(UUID id, long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    public static String of(TaskResponse task) {
+        return of(task.id(), task.version());
+    }
+
+    public static boolean noneMatch(String ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith(WEAK_PREFIX)) {
+                value = value.substring(WEAK_PREFIX.length());
+            }
+            if (ANY.equals(value) || value.equals(etag)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static Long expectedVersion(UUID id, String ifMatch) {
+        if (ifMatch == null || ANY.equals(ifMatch.trim())) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        String prefix = "\"" + id + "-";
+        if (!value.startsWith(prefix) || !value.endsWith("\"") || value.length() <= prefix.length() + 1) {
+            throw new PreconditionFailedException(id);
+        }
+        try {
+            return Long.parseLong(value.substring(prefix.length(), value.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException(id);
+        }
+    }
+}
@@ -26,6 +26,13 @@ public record TaskResponse(
 
         @Schema(description = "Дата и время последнего обновления", example = "2024-01-15T10:30:00")
         @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
-        LocalDateTime updatedAt
+        LocalDateTime updatedAt,
+
+        @Schema(description = "Дата и время выполнения; отсутствует у открытой задачи", example = "2024-01-16T09:00:00")
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        LocalDateTime completedAt,
+
+        @Schema(description = "Версия задачи, меняется при каждом обновлении", example = "0")
+        Long version
 ) {
 }
\ No newline at end of file
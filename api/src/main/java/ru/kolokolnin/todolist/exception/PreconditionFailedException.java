@@ -0,0 +1,9 @@
+package ru.kolokolnin.todolist.exception;
+
+import java.util.UUID;
+
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(UUID id) {
+        super("Task with ID " + id + " has been modified");
+    }
+}
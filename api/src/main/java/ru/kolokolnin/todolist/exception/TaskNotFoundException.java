@@ -3,7 +3,8 @@ package ru.kolokolnin.todolist.exception;
 import java.util.UUID;
 
 public class TaskNotFoundException extends RuntimeException {
+    // Thrown on every lookup of an unknown id, so it skips the stack trace
     public TaskNotFoundException(UUID id) {
-        super("Task not found with ID: " + id);
+        super("Task not found with ID: " + id, null, false, false);
     }
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+create table tasks (
+    id          uuid          not null,
+    title       varchar(500)  not null,
+    description varchar(2000),
+    completed   boolean       not null,
+    created_at  timestamp(6)  not null,
+    updated_at  timestamp(6)  not null,
+    version     bigint,
+    constraint pk_tasks primary key (id)
+);
+
+create index idx_tasks_created_at_id on tasks (created_at, id);
+create index idx_tasks_completed_created_at_id on tasks (completed, created_at, id);
+create index idx_tasks_updated_at_id on tasks (updated_at, id);
@@ -0,0 +1,7 @@
+create table task_tombstones (
+    task_id    uuid         not null,
+    deleted_at timestamp(6) not null,
+    constraint pk_task_tombstones primary key (task_id)
+);
+
+create index idx_task_tombstones_deleted_at_task_id on task_tombstones (deleted_at, task_id);
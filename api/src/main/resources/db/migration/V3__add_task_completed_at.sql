@@ -0,0 +1,6 @@
+alter table tasks add column completed_at timestamp(6);
+
+-- Best available approximation for tasks completed before the column existed
+update tasks set completed_at = updated_at where completed = true;
+
+create index idx_tasks_completed_at on tasks (completed_at);
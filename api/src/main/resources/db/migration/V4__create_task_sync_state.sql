@@ -0,0 +1,6 @@
+-- Single row written by the tombstone purge; cursors older than the watermark may have missed deletions
+create table task_sync_state (
+    id                       smallint     not null,
+    tombstones_purged_before timestamp(6) not null,
+    constraint pk_task_sync_state primary key (id)
+);
@@ -0,0 +1,87 @@
+package ru.kolokolnin.todolist.benchmark;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.kolokolnin.todolist.TodolistApplication;
+import ru.kolokolnin.todolist.dto.TaskBatchResponse;
+import ru.kolokolnin.todolist.dto.TaskBatchItemResult;
+import ru.kolokolnin.todolist.service.TaskBatchService;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+final class BenchmarkContexts {
+
+    private static final int SEED_CHUNK = 10_000;
+    private static final String MEMORY_URL_PREFIX = "jdbc:h2:mem:bench-";
+    private static final String FILE_URL_PREFIX = "jdbc:h2:file:./target/bench-db/";
+
+    private BenchmarkContexts() {
+    }
+
+    static ConfigurableApplicationContext start(WebApplicationType webApplicationType, String... properties) {
+        List<String> defaults = new ArrayList<>(List.of(
+                "spring.main.banner-mode=off",
+                "spring.datasource.url=" + MEMORY_URL_PREFIX + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "spring.jpa.show-sql=false",
+                "server.port=0",
+                // A single benchmark client would otherwise be measured against its own rate limit
+                "todo.admission.enabled=false",
+                "logging.level.root=WARN"));
+        defaults.addAll(List.of(properties));
+        // Repeated command-line options are joined with commas, so later overrides must replace earlier ones here
+        Map<String, String> overrides = new LinkedHashMap<>();
+        for (String property : defaults) {
+            int separator = property.indexOf('=');
+            overrides.put(property.substring(0, separator), property.substring(separator + 1));
+        }
+        // Passed as command-line args: builder default properties rank below application.yml and profile files
+        return new SpringApplicationBuilder(TodolistApplication.class)
+                .web(webApplicationType)
+                .run(overrides.entrySet().stream()
+                        .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                        .toArray(String[]::new));
+    }
+
+    static void requireProperty(ConfigurableApplicationContext context, String key, String expected) {
+        String actual = context.getEnvironment().getProperty(key);
+        if (!expected.equals(actual)) {
+            throw new IllegalStateException(
+                    "Benchmark override " + key + "=" + expected + " not applied, effective value: " + actual);
+        }
+    }
+
+    static String[] withStorage(String storage, String... properties) {
+        List<String> all = new ArrayList<>(List.of(properties));
+        if ("file".equals(storage)) {
+            all.add("spring.profiles.active=persistent");
+            all.add("spring.datasource.url=" + FILE_URL_PREFIX + UUID.randomUUID()
+                    + "/tododb;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;QUERY_CACHE_SIZE=64");
+        }
+        return all.toArray(String[]::new);
+    }
+
+    static void requireStorage(ConfigurableApplicationContext context, String storage) {
+        String prefix = "file".equals(storage) ? FILE_URL_PREFIX : MEMORY_URL_PREFIX;
+        String url = context.getEnvironment().getProperty("spring.datasource.url");
+        if (url == null || !url.startsWith(prefix)) {
+            throw new IllegalStateException(
+                    "Benchmark storage " + storage + " not applied, effective datasource url: " + url);
+        }
+    }
+
+    static List<UUID> seed(ConfigurableApplicationContext context, int size) {
+        TaskBatchService taskBatchService = context.getBean(TaskBatchService.class);
+        List<UUID> ids = new ArrayList<>(size);
+        for (int from = 0; from < size; from += SEED_CHUNK) {
+            TaskBatchResponse response = taskBatchService.createTasks(
+                    BenchmarkData.requests(Math.min(SEED_CHUNK, size - from)));
+            response.results().stream().map(TaskBatchItemResult::id).forEach(ids::add);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,56 @@
+package ru.kolokolnin.todolist.benchmark;
+
+import ru.kolokolnin.todolist.dto.TaskRequest;
+import ru.kolokolnin.todolist.dto.TaskResponse;
+import ru.kolokolnin.todolist.entity.TaskEntity;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+final class BenchmarkData {
+
+    private static final String DESCRIPTION = "Описание задачи для бенчмарка ".repeat(10);
+
+    private BenchmarkData() {
+    }
+
+    static TaskRequest request(int i) {
+        return new TaskRequest("Task " + i, DESCRIPTION, i % 2 == 0);
+    }
+
+    static List<TaskRequest> requests(int size) {
+        List<TaskRequest> requests = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            requests.add(request(i));
+        }
+        return requests;
+    }
+
+    static List<TaskEntity> entities(int size) {
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskEntity> entities = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entities.add(TaskEntity.builder()
+                    .id(UUID.randomUUID())
+                    .title("Task " + i)
+                    .description(DESCRIPTION)
+                    .completed(i % 2 == 0)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .version(0L)
+                    .build());
+        }
+        return entities;
+    }
+
+    static List<TaskResponse> responses(int size) {
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskResponse> responses = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            responses.add(new TaskResponse(UUID.randomUUID(), "Task " + i, DESCRIPTION, i % 2 == 0, now, now, null, 0L));
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,138 @@
+package ru.kolokolnin.todolist.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TaskApiBenchmark {
+
+    @Param({"1000", "100000"})
+    private int datasetSize;
+
+    @Param({"perf", "legacy"})
+    private String logging;
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+    private List<UUID> ids;
+    private byte[] createBody;
+    private byte[][] putToggleBodies;
+    private byte[][] patchToggleBodies;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = BenchmarkContexts.start(WebApplicationType.SERVLET, loggingProperties());
+        BenchmarkContexts.requireProperty(context, "todo.admission.enabled", "false");
+        BenchmarkContexts.requireProperty(context, "logging.level.ru.kolokolnin.todolist",
+                "legacy".equals(logging) ? "DEBUG" : "INFO");
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+        ids = BenchmarkContexts.seed(context, datasetSize);
+        ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+        createBody = objectMapper.writeValueAsBytes(BenchmarkData.request(0));
+        putToggleBodies = new byte[][]{
+                objectMapper.writeValueAsBytes(BenchmarkData.request(1)),
+                objectMapper.writeValueAsBytes(BenchmarkData.request(0))};
+        patchToggleBodies = new byte[][]{
+                "{\"completed\":false}".getBytes(StandardCharsets.UTF_8),
+                "{\"completed\":true}".getBytes(StandardCharsets.UTF_8)};
+    }
+
+    private String[] loggingProperties() {
+        if ("legacy".equals(logging)) {
+            return new String[]{
+                    "logging.level.root=INFO",
+                    "logging.level.ru.kolokolnin.todolist=DEBUG",
+                    "logging.level.org.hibernate.SQL=DEBUG",
+                    "logging.level.org.hibernate.orm.jdbc.bind=TRACE",
+                    "spring.jpa.show-sql=true",
+                    "spring.jpa.properties.hibernate.format_sql=true"};
+        }
+        return new String[]{"spring.profiles.active=perf", "logging.level.root=WARN"};
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int getTaskById() throws Exception {
+        UUID id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+        return mockMvc.perform(get("/api/v1/tasks/{id}", id))
+                .andReturn().getResponse().getStatus();
+    }
+
+    @Benchmark
+    public int createTask() throws Exception {
+        return mockMvc.perform(post("/api/v1/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(createBody))
+                .andReturn().getResponse().getStatus();
+    }
+
+    @Benchmark
+    public int getAllTasks() throws Exception {
+        return mockMvc.perform(get("/api/v1/tasks"))
+                .andReturn().getResponse().getContentAsByteArray().length;
+    }
+
+    @Benchmark
+    public int getFirstPage() throws Exception {
+        return mockMvc.perform(get("/api/v1/tasks/page").param("limit", "50"))
+                .andReturn().getResponse().getStatus();
+    }
+
+    // Completion toggle: full PUT body and response versus a one-field merge patch with Prefer: return=minimal
+    @Benchmark
+    public int toggleCompletionPut() throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return mockMvc.perform(put("/api/v1/tasks/{id}", ids.get(random.nextInt(ids.size())))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(putToggleBodies[random.nextInt(2)]))
+                .andReturn().getResponse().getContentAsByteArray().length;
+    }
+
+    @Benchmark
+    public int toggleCompletionPatch() throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return mockMvc.perform(patch("/api/v1/tasks/{id}", ids.get(random.nextInt(ids.size())))
+                        .header("Prefer", "return=minimal")
+                        .contentType("application/merge-patch+json")
+                        .content(patchToggleBodies[random.nextInt(2)]))
+                .andReturn().getResponse().getContentAsByteArray().length;
+    }
+}
@@ -0,0 +1,57 @@
+package ru.kolokolnin.todolist.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.kolokolnin.todolist.config.DateTimeConfig;
+import ru.kolokolnin.todolist.dto.TaskResponse;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TaskJsonBenchmark {
+
+    private static final TypeReference<List<TaskResponse>> RESPONSE_LIST = new TypeReference<>() {
+    };
+
+    @Param({"1", "100", "10000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<TaskResponse> responses;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new DateTimeConfig().jackson2ObjectMapperBuilder().build();
+        responses = BenchmarkData.responses(size);
+        json = objectMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws IOException {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public List<TaskResponse> deserializeList() throws IOException {
+        return objectMapper.readValue(json, RESPONSE_LIST);
+    }
+}
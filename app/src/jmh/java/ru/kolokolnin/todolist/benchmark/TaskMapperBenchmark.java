@@ -0,0 +1,51 @@
+package ru.kolokolnin.todolist.benchmark;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.kolokolnin.todolist.dto.TaskResponse;
+import ru.kolokolnin.todolist.entity.TaskEntity;
+import ru.kolokolnin.todolist.mapper.TaskMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TaskMapperBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int size;
+
+    private TaskMapper taskMapper;
+    private List<TaskEntity> entities;
+
+    @Setup
+    public void setUp() {
+        taskMapper = Mappers.getMapper(TaskMapper.class);
+        entities = BenchmarkData.entities(size);
+    }
+
+    @Benchmark
+    public TaskResponse toResponse() {
+        return taskMapper.toResponse(entities.get(0));
+    }
+
+    @Benchmark
+    public List<TaskResponse> toResponseList() {
+        return taskMapper.toResponseList(entities);
+    }
+}
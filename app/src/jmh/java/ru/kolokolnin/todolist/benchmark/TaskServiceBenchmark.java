@@ -0,0 +1,95 @@
+package ru.kolokolnin.todolist.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.kolokolnin.todolist.dto.TaskFilter;
+import ru.kolokolnin.todolist.dto.TaskPageResponse;
+import ru.kolokolnin.todolist.dto.TaskResponse;
+import ru.kolokolnin.todolist.service.TaskService;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TaskServiceBenchmark {
+
+    private static final TaskFilter NO_FILTER = new TaskFilter(null, null, null, null, null);
+
+    @Param({"1000", "100000"})
+    private int datasetSize;
+
+    @Param({"false", "true"})
+    private boolean cacheEnabled;
+
+    @Param({"memory", "file"})
+    private String storage;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private List<UUID> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.start(WebApplicationType.NONE,
+                BenchmarkContexts.withStorage(storage, "todo.cache.enabled=" + cacheEnabled));
+        BenchmarkContexts.requireProperty(context, "todo.cache.enabled", String.valueOf(cacheEnabled));
+        BenchmarkContexts.requireStorage(context, storage);
+        taskService = context.getBean(TaskService.class);
+        ids = BenchmarkContexts.seed(context, datasetSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TaskResponse getTaskById() {
+        return taskService.getTaskById(randomId());
+    }
+
+    @Benchmark
+    public TaskResponse createTask() {
+        return taskService.createTask(BenchmarkData.request(ThreadLocalRandom.current().nextInt()));
+    }
+
+    @Benchmark
+    public TaskResponse updateTask() {
+        return taskService.updateTask(randomId(), BenchmarkData.request(ThreadLocalRandom.current().nextInt()), null);
+    }
+
+    @Benchmark
+    public void createAndDeleteTask() {
+        TaskResponse created = taskService.createTask(BenchmarkData.request(0));
+        taskService.deleteTask(created.id(), null);
+    }
+
+    @Benchmark
+    public TaskPageResponse getFirstPage() {
+        return taskService.getTasksPage(NO_FILTER, null, 50);
+    }
+
+    private UUID randomId() {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+}
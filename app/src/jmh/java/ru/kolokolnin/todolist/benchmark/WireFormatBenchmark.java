@@ -0,0 +1,79 @@
+package ru.kolokolnin.todolist.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.kolokolnin.todolist.config.DateTimeConfig;
+import ru.kolokolnin.todolist.config.WireFormatConfig;
+import ru.kolokolnin.todolist.dto.TaskResponse;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class WireFormatBenchmark {
+
+    private static final TypeReference<List<TaskResponse>> RESPONSE_LIST = new TypeReference<>() {
+    };
+
+    @Param({"json", "cbor"})
+    private String format;
+
+    @Param({"1", "100", "10000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<TaskResponse> responses;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = "cbor".equals(format)
+                ? WireFormatConfig.cborObjectMapper()
+                : new DateTimeConfig().jackson2ObjectMapperBuilder().build();
+        responses = BenchmarkData.responses(size);
+        payload = objectMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] encode(PayloadSize payloadSize) throws IOException {
+        byte[] encoded = objectMapper.writeValueAsBytes(responses);
+        payloadSize.bytes = encoded.length;
+        return encoded;
+    }
+
+    @Benchmark
+    public List<TaskResponse> decode() throws IOException {
+        return objectMapper.readValue(payload, RESPONSE_LIST);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package ru.kolokolnin.todolist.admission;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AdmissionClass {
+
+    Kind value();
+
+    enum Kind {
+        CHEAP,
+        EXPENSIVE,
+        EXEMPT
+    }
+}
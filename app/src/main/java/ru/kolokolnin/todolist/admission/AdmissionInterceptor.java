@@ -0,0 +1,148 @@
+package ru.kolokolnin.todolist.admission;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import ru.kolokolnin.todolist.config.AdmissionProperties;
+import ru.kolokolnin.todolist.exception.ServiceOverloadedException;
+import ru.kolokolnin.todolist.exception.TooManyRequestsException;
+
+import java.lang.reflect.Method;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class AdmissionInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String PERMIT = AdmissionInterceptor.class.getName() + ".permit";
+    private static final long MAXIMUM_TRACKED_CLIENTS = 100_000;
+
+    private final AdmissionProperties properties;
+    private final AimdLimiter global;
+    private final Map<Method, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final Cache<String, TokenBucket> buckets;
+    private final Counter rateLimited;
+    private final Counter shed;
+
+    public AdmissionInterceptor(AdmissionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.global = newLimiter(properties.maxLimit(), properties.latencyThreshold());
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .maximumSize(MAXIMUM_TRACKED_CLIENTS)
+                .build();
+
+        Gauge.builder("todo.admission.limit", global, AimdLimiter::limit)
+                .description("Current adaptive concurrency limit for the task API")
+                .register(meterRegistry);
+        Gauge.builder("todo.admission.in.flight", global, AimdLimiter::inFlight)
+                .description("Admitted task API requests in progress")
+                .register(meterRegistry);
+        this.rateLimited = Counter.builder("todo.admission.rejected")
+                .tag("reason", "rate")
+                .description("Requests rejected by admission control")
+                .register(meterRegistry);
+        this.shed = Counter.builder("todo.admission.rejected")
+                .tag("reason", "overload")
+                .description("Requests rejected by admission control")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Async and error dispatches belong to a request that was already admitted
+        if (request.getDispatcherType() != DispatcherType.REQUEST || !(handler instanceof HandlerMethod method)) {
+            return true;
+        }
+        Endpoint endpoint = endpoints.computeIfAbsent(method.getMethod(), key -> newEndpoint(method));
+        if (endpoint.kind() == AdmissionClass.Kind.EXEMPT) {
+            return true;
+        }
+
+        long now = System.nanoTime();
+        long waitNanos = buckets.get(clientId(request),
+                key -> new TokenBucket(properties.clientRate(), properties.clientBurst(), now)).tryConsume(now);
+        if (waitNanos > 0) {
+            rateLimited.increment();
+            throw new TooManyRequestsException(Duration.ofNanos(waitNanos));
+        }
+
+        // Expensive calls may only fill part of the shared limit, so cheap reads still get in under load
+        double share = endpoint.kind() == AdmissionClass.Kind.EXPENSIVE ? properties.expensiveShare() : 1.0;
+        if (!global.tryAcquire(share)) {
+            shed.increment();
+            throw new ServiceOverloadedException(properties.retryAfter());
+        }
+        if (!endpoint.limiter().tryAcquire(1.0)) {
+            global.release();
+            shed.increment();
+            throw new ServiceOverloadedException(properties.retryAfter());
+        }
+        request.setAttribute(PERMIT, new Permit(endpoint, now));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (!(request.getAttribute(PERMIT) instanceof Permit permit)) {
+            return;
+        }
+        request.removeAttribute(PERMIT);
+        long latency = System.nanoTime() - permit.admittedAt();
+        boolean failed = ex != null || response.getStatus() >= 500;
+        permit.endpoint().limiter().onComplete(latency, failed);
+        // Long-running expensive calls are expected to be slow and must not shrink the limit for cheap ones
+        global.onComplete(permit.endpoint().kind() == AdmissionClass.Kind.EXPENSIVE ? 0 : latency, failed);
+    }
+
+    private Endpoint newEndpoint(HandlerMethod method) {
+        AdmissionClass admissionClass = method.getMethodAnnotation(AdmissionClass.class);
+        if (admissionClass == null) {
+            admissionClass = AnnotatedElementUtils.findMergedAnnotation(method.getBeanType(), AdmissionClass.class);
+        }
+        AdmissionClass.Kind kind = admissionClass != null ? admissionClass.value() : AdmissionClass.Kind.CHEAP;
+        AimdLimiter limiter = kind == AdmissionClass.Kind.EXPENSIVE
+                ? newLimiter((int) Math.max(1, properties.maxLimit() * properties.expensiveShare()),
+                        properties.expensiveLatencyThreshold())
+                : newLimiter(properties.maxLimit(), properties.latencyThreshold());
+        return new Endpoint(kind, limiter);
+    }
+
+    private AimdLimiter newLimiter(int maxLimit, Duration latencyThreshold) {
+        return new AimdLimiter(properties.initialLimit(), Math.min(properties.minLimit(), maxLimit), maxLimit,
+                properties.backoffRatio(), latencyThreshold.toNanos());
+    }
+
+    // Keys are namespaced so a header value can never collide with another client's principal or address.
+    // The remote address is the real client only behind a proxy whose forwarded headers are applied
+    // (server.forward-headers-strategy); the header is taken only from a gateway configured to set it.
+    private String clientId(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        if (principal != null) {
+            return "user:" + principal.getName();
+        }
+        if (properties.trustClientIdHeader()) {
+            String clientId = request.getHeader(properties.clientIdHeader());
+            if (clientId != null && !clientId.isBlank()) {
+                return "client:" + clientId;
+            }
+        }
+        return "addr:" + request.getRemoteAddr();
+    }
+
+    private record Endpoint(AdmissionClass.Kind kind, AimdLimiter limiter) {
+    }
+
+    private record Permit(Endpoint endpoint, long admittedAt) {
+    }
+}
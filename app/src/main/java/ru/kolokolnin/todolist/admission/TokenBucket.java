@@ -0,0 +1,27 @@
+package ru.kolokolnin.todolist.admission;
+
+final class TokenBucket {
+
+    private final double tokensPerNano;
+    private final double capacity;
+    private double tokens;
+    private long refilledAt;
+
+    TokenBucket(double tokensPerSecond, int capacity, long now) {
+        this.tokensPerNano = tokensPerSecond / 1_000_000_000d;
+        this.capacity = capacity;
+        this.tokens = capacity;
+        this.refilledAt = now;
+    }
+
+    // Returns 0 when a token was taken, otherwise the nanos until the next one is available
+    synchronized long tryConsume(long now) {
+        tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+        refilledAt = now;
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / tokensPerNano);
+    }
+}
@@ -0,0 +1,80 @@
+package ru.kolokolnin.todolist.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.kolokolnin.todolist.config.TaskCacheProperties;
+import ru.kolokolnin.todolist.dto.TaskResponse;
+import ru.kolokolnin.todolist.event.TaskChangedEvent;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+public class TaskCache implements MeterBinder {
+
+    // Deleted ids keep a marker until TTL so a read that raced the delete cannot re-populate the entry
+    private static final CachedTask DELETED = new CachedTask(null, Long.MAX_VALUE);
+
+    private final boolean enabled;
+    private final Cache<UUID, CachedTask> cache;
+
+    public TaskCache(TaskCacheProperties properties) {
+        this.enabled = properties.enabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+    }
+
+    public Optional<TaskResponse> get(UUID id) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        CachedTask cached = cache.getIfPresent(id);
+        return cached != null ? Optional.ofNullable(cached.task()) : Optional.empty();
+    }
+
+    public void put(TaskResponse task) {
+        if (!enabled || task.version() == null) {
+            return;
+        }
+        cache.asMap().merge(task.id(), new CachedTask(task, task.version()), TaskCache::newer);
+    }
+
+    public void evict(UUID id) {
+        if (enabled) {
+            cache.put(id, DELETED);
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "tasks");
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        switch (event.type()) {
+            case CREATED, UPDATED -> put(event.task());
+            case DELETED -> evict(event.id());
+        }
+    }
+
+    private static CachedTask newer(CachedTask current, CachedTask candidate) {
+        return candidate.version() >= current.version() ? candidate : current;
+    }
+
+    private record CachedTask(TaskResponse task, long version) {
+    }
+}
@@ -0,0 +1,153 @@
+package ru.kolokolnin.todolist.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.kolokolnin.todolist.config.IdFilterProperties;
+import ru.kolokolnin.todolist.repo.TaskRepository;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+// Bloom filter over existing task ids. Ids are added when Hibernate inserts the row, before the transaction
+// commits, so a committed task is never reported absent. Deleted ids stay in the filter and simply fall
+// through to the database, as every lookup did before.
+@Slf4j
+@Component
+public class TaskIdFilter implements MeterBinder {
+
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+    private final AtomicLong insertions = new AtomicLong();
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private Counter rejected;
+    private volatile boolean ready;
+
+    public TaskIdFilter(IdFilterProperties properties, TaskRepository taskRepository,
+                        PlatformTransactionManager transactionManager) {
+        this.enabled = properties.enabled();
+        this.expectedInsertions = Math.max(1, properties.expectedInsertions());
+        this.taskRepository = taskRepository;
+        // Not read-only: the initial scan must see the primary, not a lagging replica
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        long bits = enabled ? optimalBitCount(expectedInsertions, properties.falsePositiveRate()) : Long.SIZE;
+        int wordCount = Math.toIntExact((bits + Long.SIZE - 1) / Long.SIZE);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount * Long.SIZE;
+        this.hashCount = optimalHashCount(expectedInsertions, bitCount);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        AtomicLong loaded = new AtomicLong();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<UUID> ids = taskRepository.streamAllIds()) {
+                ids.forEach(id -> {
+                    add(id);
+                    loaded.incrementAndGet();
+                });
+            }
+        });
+        ready = true;
+        if (loaded.get() > expectedInsertions) {
+            log.warn("Task id filter holds {} ids but is sized for {}; raise todo.id-filter.expected-insertions",
+                    loaded.get(), expectedInsertions);
+        }
+        log.info("Task id filter built with {} ids in {} ms", loaded.get(),
+                (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    public void add(UUID id) {
+        if (!enabled) {
+            return;
+        }
+        long h1 = h1(id);
+        long h2 = h2(id);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            if ((words.get(word) & mask) == 0) {
+                words.getAndAccumulate(word, mask, (current, bitMask) -> current | bitMask);
+            }
+        }
+        insertions.incrementAndGet();
+    }
+
+    // False until the startup scan has finished, so ids created before the application started are never missed
+    public boolean isDefinitelyAbsent(UUID id) {
+        if (!enabled || !ready) {
+            return false;
+        }
+        long h1 = h1(id);
+        long h2 = h2(id);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                if (rejected != null) {
+                    rejected.increment();
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public double expectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-(double) hashCount * insertions.get() / bitCount), hashCount);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        rejected = Counter.builder("todo.id.filter.rejected")
+                .description("Lookups of unknown task ids answered without a database query")
+                .register(registry);
+        Gauge.builder("todo.id.filter.false.positive.rate", this, TaskIdFilter::expectedFalsePositiveRate)
+                .description("Estimated probability that an unknown id still reaches the database")
+                .register(registry);
+    }
+
+    private static long optimalBitCount(long expectedInsertions, double falsePositiveRate) {
+        return (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    }
+
+    private static int optimalHashCount(long expectedInsertions, long bitCount) {
+        return Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    // Client-supplied ids need not be random (UUIDv7, sequential), so both halves are mixed before use
+    private static long h1(UUID id) {
+        return mix(id.getMostSignificantBits() ^ mix(id.getLeastSignificantBits()));
+    }
+
+    private static long h2(UUID id) {
+        return mix(id.getLeastSignificantBits() + 0x9E3779B97F4A7C15L) | 1L;
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
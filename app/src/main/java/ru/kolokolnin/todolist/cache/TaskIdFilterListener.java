@@ -0,0 +1,28 @@
+package ru.kolokolnin.todolist.cache;
+
+import jakarta.persistence.PrePersist;
+import org.springframework.beans.factory.ObjectProvider;
+import ru.kolokolnin.todolist.entity.TaskEntity;
+
+import java.util.UUID;
+
+// Instantiated by Hibernate through Spring's bean container; the provider breaks the
+// TaskIdFilter -> TaskRepository -> EntityManagerFactory -> listener cycle
+public class TaskIdFilterListener {
+
+    private final ObjectProvider<TaskIdFilter> taskIdFilter;
+
+    public TaskIdFilterListener(ObjectProvider<TaskIdFilter> taskIdFilter) {
+        this.taskIdFilter = taskIdFilter;
+    }
+
+    // Runs at persist() rather than at flush, so a task created earlier in the same transaction is found.
+    // Entity listeners run before TaskEntity's own @PrePersist, hence the id is assigned here when missing.
+    @PrePersist
+    public void onPersist(TaskEntity task) {
+        if (task.getId() == null) {
+            task.setId(UUID.randomUUID());
+        }
+        taskIdFilter.getObject().add(task.getId());
+    }
+}
@@ -0,0 +1,32 @@
+package ru.kolokolnin.todolist.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import ru.kolokolnin.todolist.admission.AdmissionInterceptor;
+
+@Configuration
+@ConditionalOnProperty(prefix = "todo.admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionConfig implements WebMvcConfigurer {
+
+    private final AdmissionProperties admissionProperties;
+    private final MeterRegistry meterRegistry;
+
+    public AdmissionConfig(AdmissionProperties admissionProperties, MeterRegistry meterRegistry) {
+        this.admissionProperties = admissionProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean
+    public AdmissionInterceptor admissionInterceptor() {
+        return new AdmissionInterceptor(admissionProperties, meterRegistry);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(admissionInterceptor()).addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,24 @@
+package ru.kolokolnin.todolist.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "todo.admission")
+public record AdmissionProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("X-Client-Id") String clientIdHeader,
+        @DefaultValue("false") boolean trustClientIdHeader,
+        @DefaultValue("200") double clientRate,
+        @DefaultValue("400") int clientBurst,
+        @DefaultValue("100") int initialLimit,
+        @DefaultValue("10") int minLimit,
+        @DefaultValue("1000") int maxLimit,
+        @DefaultValue("0.9") double backoffRatio,
+        @DefaultValue("500ms") Duration latencyThreshold,
+        @DefaultValue("10s") Duration expensiveLatencyThreshold,
+        @DefaultValue("0.5") double expensiveShare,
+        @DefaultValue("1s") Duration retryAfter
+) {
+}
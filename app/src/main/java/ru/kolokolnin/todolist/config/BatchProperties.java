@@ -0,0 +1,11 @@
+package ru.kolokolnin.todolist.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "todo.batch")
+public record BatchProperties(
+        @DefaultValue("500") int chunkSize,
+        @DefaultValue("100000") int maxItems
+) {
+}
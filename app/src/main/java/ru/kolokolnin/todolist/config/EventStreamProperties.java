@@ -0,0 +1,18 @@
+package ru.kolokolnin.todolist.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "todo.events")
+public record EventStreamProperties(
+        @DefaultValue("256") int subscriberBufferSize,
+        @DefaultValue("10000") int replayBufferSize,
+        @DefaultValue("50000") int maxSubscribers,
+        @DefaultValue("15s") Duration heartbeatInterval,
+        @DefaultValue("30m") Duration timeout,
+        @DefaultValue("3s") Duration reconnectDelay,
+        @DefaultValue("8") int dispatchThreads
+) {
+}
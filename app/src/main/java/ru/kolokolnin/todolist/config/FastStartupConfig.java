@@ -0,0 +1,22 @@
+package ru.kolokolnin.todolist.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import ru.kolokolnin.todolist.TodolistApplication;
+
+@Configuration(proxyBeanMethods = false)
+@Profile("fast-startup")
+public class FastStartupConfig {
+
+    private static final String APPLICATION_PACKAGE = TodolistApplication.class.getPackageName() + ".";
+
+    // Lazy initialization only defers framework extras (springdoc, actuator endpoints); application beans
+    // and everything they depend on still start eagerly, so wiring errors surface at boot, not on first request
+    @Bean
+    static LazyInitializationExcludeFilter eagerApplicationBeans() {
+        return (beanName, beanDefinition, beanType) ->
+                beanType != null && beanType.getName().startsWith(APPLICATION_PACKAGE);
+    }
+}
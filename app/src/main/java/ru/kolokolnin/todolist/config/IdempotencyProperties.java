@@ -0,0 +1,15 @@
+package ru.kolokolnin.todolist.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "todo.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("24h") Duration ttl,
+        @DefaultValue("100000") long maximumWeight,
+        @DefaultValue("255") int maxKeyLength,
+        @DefaultValue("10s") Duration inProgressWait
+) {
+}
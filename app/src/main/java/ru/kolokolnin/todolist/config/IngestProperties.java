@@ -0,0 +1,21 @@
+package ru.kolokolnin.todolist.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "todo.ingest")
+public record IngestProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10000") int queueCapacity,
+        @DefaultValue("500") int flushBatchSize,
+        @DefaultValue("100ms") Duration flushInterval,
+        @DefaultValue("1s") Duration retryAfter,
+        @DefaultValue("./data/ingest-journal") Path journalDirectory,
+        @DefaultValue("64MB") DataSize journalSegmentSize,
+        @DefaultValue("true") boolean journalFsync
+) {
+}
@@ -0,0 +1,73 @@
+package ru.kolokolnin.todolist.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import ru.kolokolnin.todolist.datasource.ReadWriteRoutingDataSource;
+import ru.kolokolnin.todolist.datasource.ReplicaStickiness;
+import ru.kolokolnin.todolist.datasource.ReplicaStickinessFilter;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(prefix = "todo.datasource.replica", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    private static final long MAXIMUM_TRACKED_CLIENTS = 100_000;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties properties, ReplicaProperties replica) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("todo-replica");
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setJdbcUrl(replica.url());
+        dataSource.setUsername(replica.username() != null ? replica.username() : properties.determineUsername());
+        dataSource.setPassword(replica.password() != null ? replica.password() : properties.determinePassword());
+        dataSource.setMaximumPoolSize(replica.maximumPoolSize());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    // The lazy proxy defers the physical connection until the first statement, after the read-only flag is bound
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") HikariDataSource replicaDataSource) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource();
+        routing.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.Route.PRIMARY, primaryDataSource,
+                ReadWriteRoutingDataSource.Route.REPLICA, replicaDataSource));
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean
+    public ReplicaStickiness replicaStickiness(ReplicaProperties replica) {
+        return new ReplicaStickiness(replica.maxLag(), MAXIMUM_TRACKED_CLIENTS);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReplicaStickinessFilter> replicaStickinessFilter(ReplicaStickiness stickiness,
+                                                                                  ReplicaProperties replica) {
+        FilterRegistrationBean<ReplicaStickinessFilter> registration =
+                new FilterRegistrationBean<>(new ReplicaStickinessFilter(stickiness, replica.clientIdHeader()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,13 @@
+package ru.kolokolnin.todolist.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "todo.logging")
+public record RequestLoggingProperties(
+        @DefaultValue("1.0") double requestSampleRate,
+        @DefaultValue("1s") Duration slowRequestThreshold
+) {
+}
@@ -0,0 +1,13 @@
+package ru.kolokolnin.todolist.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "todo.search")
+public record SearchProperties(
+        @DefaultValue("1s") Duration refreshInterval,
+        @DefaultValue("10000") int maxResultWindow
+) {
+}
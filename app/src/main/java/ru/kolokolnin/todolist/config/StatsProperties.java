@@ -0,0 +1,10 @@
+package ru.kolokolnin.todolist.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "todo.stats")
+public record StatsProperties(
+        @DefaultValue("366") int maxDays
+) {
+}
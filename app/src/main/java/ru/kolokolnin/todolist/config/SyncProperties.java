@@ -0,0 +1,14 @@
+package ru.kolokolnin.todolist.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "todo.sync")
+public record SyncProperties(
+        @DefaultValue("1s") Duration settleTime,
+        @DefaultValue("30d") Duration tombstoneRetention,
+        @DefaultValue("1h") Duration tombstonePurgeInterval
+) {
+}
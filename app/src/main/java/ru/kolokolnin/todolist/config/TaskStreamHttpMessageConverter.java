@@ -0,0 +1,74 @@
+package ru.kolokolnin.todolist.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.StreamUtils;
+import ru.kolokolnin.todolist.dto.TaskResponse;
+import ru.kolokolnin.todolist.dto.TaskStream;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Пишет {@link TaskStream} JSON- или CBOR-массивом, не собирая список в памяти.
+ * Формат выбирает MVC по Accept и {@code produces}; конвертер только смотрит на выбранный Content-Type.
+ */
+public class TaskStreamHttpMessageConverter extends AbstractHttpMessageConverter<TaskStream> {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper cborMapper;
+
+    public TaskStreamHttpMessageConverter(ObjectMapper jsonMapper, ObjectMapper cborMapper) {
+        super(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR);
+        this.jsonMapper = jsonMapper;
+        this.cborMapper = cborMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return TaskStream.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected TaskStream readInternal(Class<? extends TaskStream> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Task stream is write-only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(TaskStream tasks, HttpOutputMessage outputMessage) throws IOException {
+        ObjectMapper mapper = MediaType.APPLICATION_CBOR.isCompatibleWith(outputMessage.getHeaders().getContentType())
+                ? cborMapper
+                : jsonMapper;
+        ObjectWriter writer = mapper.writerFor(TaskResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        BufferedOutputStream body = new BufferedOutputStream(StreamUtils.nonClosing(outputMessage.getBody()), BUFFER_SIZE);
+        try (JsonGenerator generator = mapper.createGenerator(body)) {
+            generator.writeStartArray();
+            tasks.forEach(task -> writeValue(writer, generator, task));
+            generator.writeEndArray();
+        }
+    }
+
+    private static void writeValue(ObjectWriter writer, JsonGenerator generator, TaskResponse task) {
+        try {
+            writer.writeValue(generator, task);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
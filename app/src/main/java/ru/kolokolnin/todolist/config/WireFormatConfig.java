@@ -0,0 +1,41 @@
+package ru.kolokolnin.todolist.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+public class WireFormatConfig implements WebMvcConfigurer {
+
+    private final ObjectMapper objectMapper;
+
+    public static ObjectMapper cborObjectMapper() {
+        return Jackson2ObjectMapperBuilder.cbor()
+                .modulesToInstall(new JavaTimeModule())
+                .simpleDateFormat("yyyy-MM-dd'T'HH:mm:ss")
+                .build();
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter() {
+        return new MappingJackson2CborHttpMessageConverter(cborObjectMapper());
+    }
+
+    // CBOR is appended after the JSON converter so that clients without an explicit Accept header keep getting JSON;
+    // the task stream converter goes first because the generic Jackson converters would also claim its body type
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(MappingJackson2CborHttpMessageConverter.class::isInstance);
+        converters.add(cborHttpMessageConverter());
+        converters.add(0, new TaskStreamHttpMessageConverter(objectMapper, cborHttpMessageConverter().getObjectMapper()));
+    }
+}
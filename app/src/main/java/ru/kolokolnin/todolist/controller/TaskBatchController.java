@@ -0,0 +1,209 @@
+package ru.kolokolnin.todolist.controller;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import ru.kolokolnin.todolist.admission.AdmissionClass;
+import ru.kolokolnin.todolist.config.BatchProperties;
+import ru.kolokolnin.todolist.dto.ErrorResponse;
+import ru.kolokolnin.todolist.dto.TaskBatchResponse;
+import ru.kolokolnin.todolist.dto.TaskRequest;
+import ru.kolokolnin.todolist.dto.TaskUpdateItem;
+import ru.kolokolnin.todolist.exception.ValidationException;
+import ru.kolokolnin.todolist.idempotency.IdempotencyStore;
+import ru.kolokolnin.todolist.idempotency.IdempotentResult;
+import ru.kolokolnin.todolist.service.TaskBatchService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@AdmissionClass(AdmissionClass.Kind.EXPENSIVE)
+@RestController
+@RequestMapping("/api/v1/tasks/batch")
+@RequiredArgsConstructor
+@Tag(name = "Tasks batch", description = "API для пакетной обработки задач")
+public class TaskBatchController {
+
+    private final TaskBatchService taskBatchService;
+    private final BatchProperties batchProperties;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyStore idempotencyStore;
+    private final MappingJackson2CborHttpMessageConverter cborHttpMessageConverter;
+
+    @Operation(
+            summary = "Создать задачи пакетом",
+            description = "Создает задачи из массива в JSON или CBOR; результат возвращается по каждому элементу"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Пакет обработан",
+                    content = @Content(schema = @Schema(implementation = TaskBatchResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Пакет превышает допустимый размер",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @RequestBody(content = @Content(array = @ArraySchema(schema = @Schema(implementation = TaskRequest.class))))
+    @PostMapping(consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<TaskBatchResponse> createTasks(
+            @Parameter(description = "Ключ идемпотентности: повтор с тем же ключом вернет исходный ответ")
+            @RequestHeader(value = IdempotencyStore.IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            InputStream body) throws IOException {
+        List<TaskRequest> taskRequests = readArray(body, contentType, TaskRequest.class);
+        log.debug("POST /api/v1/tasks/batch - Creating {} tasks", taskRequests.size());
+        return createIdempotently(idempotencyKey, taskRequests);
+    }
+
+    @Operation(
+            summary = "Создать задачи из NDJSON",
+            description = "Создает задачи из тела в формате NDJSON (одна задача на строку)"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Пакет обработан",
+                    content = @Content(schema = @Schema(implementation = TaskBatchResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Некорректный NDJSON или пакет превышает допустимый размер",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<TaskBatchResponse> createTasksFromNdjson(
+            @Parameter(description = "Ключ идемпотентности: повтор с тем же ключом вернет исходный ответ")
+            @RequestHeader(value = IdempotencyStore.IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            InputStream body) throws IOException {
+        List<TaskRequest> taskRequests = readNdjson(body);
+        log.debug("POST /api/v1/tasks/batch - Creating {} tasks from NDJSON", taskRequests.size());
+        return createIdempotently(idempotencyKey, taskRequests);
+    }
+
+    @Operation(
+            summary = "Обновить задачи пакетом",
+            description = "Обновляет задачи по списку пар id/данные; результат возвращается по каждому элементу"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Пакет обработан",
+            content = @Content(schema = @Schema(implementation = TaskBatchResponse.class))
+    )
+    @RequestBody(content = @Content(array = @ArraySchema(schema = @Schema(implementation = TaskUpdateItem.class))))
+    @PutMapping
+    public ResponseEntity<TaskBatchResponse> updateTasks(
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            InputStream body) throws IOException {
+        List<TaskUpdateItem> items = readArray(body, contentType, TaskUpdateItem.class);
+        log.debug("PUT /api/v1/tasks/batch - Updating {} tasks", items.size());
+        return ResponseEntity.ok(taskBatchService.updateTasks(items));
+    }
+
+    @Operation(
+            summary = "Удалить задачи пакетом",
+            description = "Удаляет задачи по списку идентификаторов; результат возвращается по каждому элементу"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Пакет обработан",
+            content = @Content(schema = @Schema(implementation = TaskBatchResponse.class))
+    )
+    @RequestBody(content = @Content(array = @ArraySchema(schema = @Schema(implementation = UUID.class))))
+    @DeleteMapping
+    public ResponseEntity<TaskBatchResponse> deleteTasks(
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            InputStream body) throws IOException {
+        List<UUID> ids = readArray(body, contentType, UUID.class);
+        log.debug("DELETE /api/v1/tasks/batch - Deleting {} tasks", ids.size());
+        return ResponseEntity.ok(taskBatchService.deleteTasks(ids));
+    }
+
+    // JSON, CBOR and NDJSON bodies share one scope: the same tasks under the same key are the same request
+    private ResponseEntity<TaskBatchResponse> createIdempotently(String idempotencyKey, List<TaskRequest> taskRequests) {
+        IdempotentResult<TaskBatchResponse> result = idempotencyStore.execute("POST /api/v1/tasks/batch",
+                idempotencyKey, taskRequests, () -> taskBatchService.createTasks(taskRequests),
+                response -> response.results().size());
+        return ResponseEntity.ok()
+                .headers(headers -> {
+                    if (result.replayed()) {
+                        headers.set(IdempotencyStore.IDEMPOTENT_REPLAYED, "true");
+                    }
+                })
+                .body(result.value());
+    }
+
+    // Elements are bound one at a time, so an oversized batch is rejected before the rest of the array is read
+    private <T> List<T> readArray(InputStream body, String contentType, Class<T> type) throws IOException {
+        ObjectMapper mapper = isCbor(contentType) ? cborHttpMessageConverter.getObjectMapper() : objectMapper;
+        List<T> items = new ArrayList<>();
+        try (JsonParser parser = mapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new ValidationException("Batch body must be an array");
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                checkBatchLimit(items.size());
+                items.add(mapper.readValue(parser, type));
+            }
+        } catch (JsonProcessingException e) {
+            throw new ValidationException("Malformed batch body: " + e.getOriginalMessage());
+        }
+        return items;
+    }
+
+    private List<TaskRequest> readNdjson(InputStream body) throws IOException {
+        List<TaskRequest> taskRequests = new ArrayList<>();
+        try (MappingIterator<TaskRequest> iterator = objectMapper.readerFor(TaskRequest.class).readValues(body)) {
+            while (iterator.hasNextValue()) {
+                checkBatchLimit(taskRequests.size());
+                taskRequests.add(iterator.nextValue());
+            }
+        } catch (JsonProcessingException e) {
+            throw new ValidationException("Malformed NDJSON body: " + e.getOriginalMessage());
+        }
+        return taskRequests;
+    }
+
+    private void checkBatchLimit(int readSoFar) {
+        if (readSoFar == batchProperties.maxItems()) {
+            throw new ValidationException("Batch must not exceed " + batchProperties.maxItems() + " items");
+        }
+    }
+
+    private static boolean isCbor(String contentType) {
+        return contentType != null && MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.APPLICATION_CBOR);
+    }
+}
@@ -0,0 +1,414 @@
+package ru.kolokolnin.todolist.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.kolokolnin.todolist.admission.AdmissionClass;
+import ru.kolokolnin.todolist.dto.ErrorResponse;
+import ru.kolokolnin.todolist.dto.TaskChangesResponse;
+import ru.kolokolnin.todolist.dto.TaskFilter;
+import ru.kolokolnin.todolist.dto.TaskPageResponse;
+import ru.kolokolnin.todolist.dto.TaskPatch;
+import ru.kolokolnin.todolist.dto.TaskRequest;
+import ru.kolokolnin.todolist.dto.TaskResponse;
+import ru.kolokolnin.todolist.dto.TaskStream;
+import ru.kolokolnin.todolist.idempotency.IdempotencyStore;
+import ru.kolokolnin.todolist.idempotency.IdempotentResult;
+import ru.kolokolnin.todolist.metrics.StatementStats;
+import ru.kolokolnin.todolist.metrics.TaskApiMetrics;
+import ru.kolokolnin.todolist.service.TaskService;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/tasks")
+@RequiredArgsConstructor
+@Tag(name = "Tasks", description = "API для управления задачами")
+public class TaskController {
+
+    private static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+    private static final String PREFER = "Prefer";
+    private static final String RETURN_MINIMAL = "return=minimal";
+
+    private final TaskService taskService;
+    private final ObjectMapper objectMapper;
+    private final TaskApiMetrics taskApiMetrics;
+    private final IdempotencyStore idempotencyStore;
+
+    @Operation(
+            summary = "Создать новую задачу",
+            description = "Создает новую задачу с указанными данными"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "Задача успешно создана",
+                    content = @Content(schema = @Schema(implementation = TaskResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Невалидные данные",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Запрос с этим ключом идемпотентности еще выполняется",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "422",
+                    description = "Ключ идемпотентности уже использован с другим телом запроса",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @PostMapping
+    public ResponseEntity<TaskResponse> createTask(
+            @Parameter(description = "Ключ идемпотентности: повтор с тем же ключом вернет исходный ответ")
+            @RequestHeader(value = IdempotencyStore.IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            @Valid @RequestBody TaskRequest taskRequest) {
+        log.debug("POST /api/v1/tasks - Creating new task");
+        IdempotentResult<TaskResponse> result = idempotencyStore.execute("POST /api/v1/tasks", idempotencyKey,
+                taskRequest, () -> taskService.createTask(taskRequest));
+        TaskResponse response = result.value();
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(TaskETags.of(response))
+                .headers(headers -> {
+                    if (result.replayed()) {
+                        headers.set(IdempotencyStore.IDEMPOTENT_REPLAYED, "true");
+                    }
+                })
+                .body(response);
+    }
+
+    @Operation(
+            summary = "Получить все задачи",
+            description = "Возвращает список всех существующих задач"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Список задач успешно получен",
+            content = @Content(schema = @Schema(implementation = TaskResponse[].class))
+    )
+    @AdmissionClass(AdmissionClass.Kind.EXPENSIVE)
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<TaskStream> getAllTasks() {
+        log.debug("GET /api/v1/tasks - Retrieving all tasks");
+        TaskStream tasks = taskService::exportTasks;
+        return ResponseEntity.ok(tasks);
+    }
+
+    @Operation(
+            summary = "Получить страницу задач",
+            description = "Возвращает задачи в порядке создания постранично, с фильтрами и курсором продолжения"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Страница задач успешно получена",
+                    content = @Content(schema = @Schema(implementation = TaskPageResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Невалидный курсор или размер страницы",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @GetMapping("/page")
+    public ResponseEntity<TaskPageResponse> getTasksPage(
+            @Parameter(description = "Фильтр по статусу выполнения", example = "false")
+            @RequestParam(required = false) Boolean completed,
+            @Parameter(description = "Создана не раньше (включительно)", example = "2024-01-15T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @Parameter(description = "Создана раньше (исключительно)", example = "2024-01-16T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @Parameter(description = "Обновлена не раньше (включительно)", example = "2024-01-15T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedFrom,
+            @Parameter(description = "Обновлена раньше (исключительно)", example = "2024-01-16T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedTo,
+            @Parameter(description = "Курсор из предыдущего ответа")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Размер страницы (1..500)", example = "50")
+            @RequestParam(defaultValue = "50") int limit) {
+        log.debug("GET /api/v1/tasks/page - Retrieving tasks page");
+        TaskFilter filter = new TaskFilter(completed, createdFrom, createdTo, updatedFrom, updatedTo);
+        TaskPageResponse page = taskService.getTasksPage(filter, cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    @Operation(
+            summary = "Получить изменения задач",
+            description = "Возвращает созданные, измененные и удаленные задачи после курсора синхронизации"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Изменения успешно получены",
+                    content = @Content(schema = @Schema(implementation = TaskChangesResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Невалидный курсор или размер страницы",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "410",
+                    description = "Курсор старше очищенных отметок об удалении, нужна полная синхронизация",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @GetMapping("/changes")
+    public ResponseEntity<TaskChangesResponse> getChanges(
+            @Parameter(description = "Курсор из предыдущего ответа синхронизации")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Изменения строго после момента (если курсор не задан)", example = "2024-01-15T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @Parameter(description = "Максимальное число изменений (1..500)", example = "100")
+            @RequestParam(defaultValue = "100") int limit) {
+        log.debug("GET /api/v1/tasks/changes - Retrieving task changes");
+        return ResponseEntity.ok(taskService.getChanges(cursor, since, limit));
+    }
+
+    @Operation(
+            summary = "Экспортировать все задачи",
+            description = "Потоково выгружает все задачи в формате NDJSON (одна задача на строку)"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Выгрузка задач",
+            content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                    schema = @Schema(implementation = TaskResponse.class))
+    )
+    @AdmissionClass(AdmissionClass.Kind.EXPENSIVE)
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTasks() {
+        log.debug("GET /api/v1/tasks/export - Exporting all tasks");
+        ObjectWriter writer = objectMapper.writerFor(TaskResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody body = outputStream -> {
+            long startedAt = System.nanoTime();
+            StatementStats stats = StatementStats.begin();
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                taskService.exportTasks(task -> {
+                    writeLine(writer, generator, task);
+                    taskApiMetrics.taskExported();
+                });
+            } finally {
+                StatementStats.end();
+                taskApiMetrics.recordExport(System.nanoTime() - startedAt);
+                taskApiMetrics.recordStatements("GET", "/api/v1/tasks/export", stats);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @Operation(
+            summary = "Получить задачу по ID",
+            description = "Возвращает задачу по её уникальному идентификатору"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Задача успешно найдена",
+                    content = @Content(schema = @Schema(implementation = TaskResponse.class))
+            ),
+            @ApiResponse(responseCode = "304", description = "Задача не изменилась с версии из If-None-Match"),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Задача не найдена",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<TaskResponse> getTaskById(
+            @Parameter(description = "UUID задачи", example = "a1b2c3d4-e5f6-7890-abcd-ef1234567890")
+            @PathVariable UUID id,
+            @Parameter(description = "ETag ранее полученной версии задачи")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.debug("GET /api/v1/tasks/{} - Retrieving task by ID", id);
+        if (ifNoneMatch != null) {
+            String etag = TaskETags.of(id, taskService.getTaskVersion(id));
+            if (!TaskETags.noneMatch(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+        }
+        TaskResponse task = taskService.getTaskById(id);
+        return ResponseEntity.ok()
+                .eTag(TaskETags.of(task))
+                .body(task);
+    }
+
+    @Operation(
+            summary = "Обновить задачу",
+            description = "Обновляет существующую задачу по ID"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Задача успешно обновлена",
+                    content = @Content(schema = @Schema(implementation = TaskResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Невалидные данные",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Задача не найдена",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "Версия задачи не совпадает с If-Match",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @PutMapping("/{id}")
+    public ResponseEntity<TaskResponse> updateTask(
+            @Parameter(description = "UUID задачи", example = "a1b2c3d4-e5f6-7890-abcd-ef1234567890")
+            @PathVariable UUID id,
+            @Parameter(description = "ETag версии, которую клиент собирается изменить")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody TaskRequest taskRequest) {
+        log.debug("PUT /api/v1/tasks/{} - Updating task", id);
+        TaskResponse updatedTask = taskService.updateTask(id, taskRequest, TaskETags.expectedVersion(id, ifMatch));
+        return ResponseEntity.ok()
+                .eTag(TaskETags.of(updatedTask))
+                .body(updatedTask);
+    }
+
+    @Operation(
+            summary = "Частично обновить задачу",
+            description = "Применяет JSON Merge Patch: меняются только переданные поля. "
+                    + "С заголовком Prefer: return=minimal возвращает 204 и ETag без тела"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Задача успешно обновлена",
+                    content = @Content(schema = @Schema(implementation = TaskResponse.class))
+            ),
+            @ApiResponse(responseCode = "204", description = "Задача обновлена, тело опущено по Prefer: return=minimal"),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Невалидный патч",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Задача не найдена",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "Версия задачи не совпадает с If-Match",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<TaskResponse> patchTask(
+            @Parameter(description = "UUID задачи", example = "a1b2c3d4-e5f6-7890-abcd-ef1234567890")
+            @PathVariable UUID id,
+            @Parameter(description = "ETag версии, которую клиент собирается изменить")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Parameter(description = "return=minimal — не возвращать тело ответа", example = RETURN_MINIMAL)
+            @RequestHeader(value = PREFER, required = false) String prefer,
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(content = @Content(
+                    mediaType = MERGE_PATCH_JSON_VALUE,
+                    schema = @Schema(implementation = TaskPatch.class)))
+            @RequestBody JsonNode patch) {
+        log.debug("PATCH /api/v1/tasks/{} - Patching task", id);
+        TaskResponse patchedTask = taskService.patchTask(id, TaskPatch.fromMergePatch(patch),
+                TaskETags.expectedVersion(id, ifMatch));
+        if (prefersMinimal(prefer)) {
+            return ResponseEntity.noContent()
+                    .eTag(TaskETags.of(patchedTask))
+                    .header("Preference-Applied", RETURN_MINIMAL)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(TaskETags.of(patchedTask))
+                .body(patchedTask);
+    }
+
+    @Operation(
+            summary = "Удалить задачу",
+            description = "Удаляет задачу по её идентификатору"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "Задача успешно удалена"),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Задача не найдена",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "Версия задачи не совпадает с If-Match",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteTask(
+            @Parameter(description = "UUID задачи", example = "a1b2c3d4-e5f6-7890-abcd-ef1234567890")
+            @PathVariable UUID id,
+            @Parameter(description = "ETag версии, которую клиент собирается удалить")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.debug("DELETE /api/v1/tasks/{} - Deleting task", id);
+        taskService.deleteTask(id, TaskETags.expectedVersion(id, ifMatch));
+        return ResponseEntity.noContent().build();
+    }
+
+    private static boolean prefersMinimal(String prefer) {
+        return prefer != null && Arrays.stream(prefer.split(","))
+                .map(String::trim)
+                .anyMatch(RETURN_MINIMAL::equalsIgnoreCase);
+    }
+
+    private static void writeLine(ObjectWriter writer, JsonGenerator generator, TaskResponse task) {
+        try {
+            writer.writeValue(generator, task);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
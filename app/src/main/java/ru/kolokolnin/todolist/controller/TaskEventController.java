@@ -0,0 +1,73 @@
+package ru.kolokolnin.todolist.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ru.kolokolnin.todolist.admission.AdmissionClass;
+import ru.kolokolnin.todolist.config.EventStreamProperties;
+import ru.kolokolnin.todolist.dto.TaskEventResponse;
+import ru.kolokolnin.todolist.stream.TaskEventBroadcaster;
+
+@Slf4j
+@AdmissionClass(AdmissionClass.Kind.EXEMPT)
+@RestController
+@RequestMapping("/api/v1/tasks/events")
+@RequiredArgsConstructor
+@Tag(name = "Task events", description = "Поток изменений задач (Server-Sent Events)")
+public class TaskEventController {
+
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+
+    private final TaskEventBroadcaster taskEventBroadcaster;
+    private final EventStreamProperties eventStreamProperties;
+
+    @Operation(
+            summary = "Подписаться на изменения задач",
+            description = "Открывает поток SSE с событиями created, updated и deleted после фиксации транзакции. "
+                    + "Первое событие ready содержит текущую позицию; при переподключении с Last-Event-ID "
+                    + "пропущенные события отправляются повторно, а если они уже недоступны — приходит reset "
+                    + "и клиент должен перечитать состояние"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Поток событий открыт",
+                    content = @Content(
+                            mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                            schema = @Schema(implementation = TaskEventResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Достигнут предел подписчиков, повторите после Retry-After"
+            )
+    })
+    // The limit is answered with a bare status: an error body could not be rendered for text/event-stream clients
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribe(
+            @Parameter(description = "Идентификатор последнего полученного события", example = "3f2a9c1b:42")
+            @RequestHeader(value = LAST_EVENT_ID, required = false) String lastEventId) {
+        log.debug("GET /api/v1/tasks/events - Subscribing to task events");
+        return taskEventBroadcaster.subscribe(lastEventId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER,
+                                String.valueOf(Math.max(1, eventStreamProperties.reconnectDelay().toSeconds())))
+                        .build());
+    }
+}
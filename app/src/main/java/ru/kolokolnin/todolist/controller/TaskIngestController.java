@@ -0,0 +1,66 @@
+package ru.kolokolnin.todolist.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import ru.kolokolnin.todolist.dto.ErrorResponse;
+import ru.kolokolnin.todolist.dto.TaskAcceptedResponse;
+import ru.kolokolnin.todolist.dto.TaskRequest;
+import ru.kolokolnin.todolist.ingest.AcceptedTask;
+import ru.kolokolnin.todolist.ingest.TaskIngestService;
+
+import java.net.URI;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/tasks/async")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "todo.ingest", name = "enabled", havingValue = "true")
+@Tag(name = "Tasks ingestion", description = "API для асинхронного создания задач")
+public class TaskIngestController {
+
+    private final TaskIngestService taskIngestService;
+
+    @Operation(
+            summary = "Принять задачу к асинхронному созданию",
+            description = "Назначает задаче UUID, записывает ее в журнал и подтверждает прием; "
+                    + "задача появляется в API после фоновой записи пакетом"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Задача принята",
+                    content = @Content(schema = @Schema(implementation = TaskAcceptedResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Невалидные данные",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Очередь приема заполнена, повторите после Retry-After",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @PostMapping
+    public ResponseEntity<TaskAcceptedResponse> acceptTask(@Valid @RequestBody TaskRequest taskRequest) {
+        log.debug("POST /api/v1/tasks/async - Accepting task");
+        AcceptedTask task = taskIngestService.accept(taskRequest);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/tasks/" + task.id()))
+                .body(new TaskAcceptedResponse(task.id(), task.acceptedAt()));
+    }
+}
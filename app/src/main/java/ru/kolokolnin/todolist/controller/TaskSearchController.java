@@ -0,0 +1,58 @@
+package ru.kolokolnin.todolist.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import ru.kolokolnin.todolist.dto.ErrorResponse;
+import ru.kolokolnin.todolist.dto.TaskSearchResponse;
+import ru.kolokolnin.todolist.service.TaskSearchService;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/tasks/search")
+@RequiredArgsConstructor
+@Tag(name = "Tasks search", description = "API для полнотекстового поиска задач")
+public class TaskSearchController {
+
+    private final TaskSearchService taskSearchService;
+
+    @Operation(
+            summary = "Найти задачи",
+            description = "Ищет задачи по названию и описанию; результаты упорядочены по релевантности, "
+                    + "последнее слово запроса ищется по префиксу"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Поиск выполнен",
+                    content = @Content(schema = @Schema(implementation = TaskSearchResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Пустой запрос или невалидные параметры страницы",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @GetMapping
+    public ResponseEntity<TaskSearchResponse> search(
+            @Parameter(description = "Поисковый запрос", example = "spring bo")
+            @RequestParam String q,
+            @Parameter(description = "Смещение от начала результатов", example = "0")
+            @RequestParam(defaultValue = "0") int offset,
+            @Parameter(description = "Размер страницы (1..100)", example = "20")
+            @RequestParam(defaultValue = "20") int limit) {
+        log.debug("GET /api/v1/tasks/search - Searching tasks");
+        return ResponseEntity.ok(taskSearchService.search(q, offset, limit));
+    }
+}
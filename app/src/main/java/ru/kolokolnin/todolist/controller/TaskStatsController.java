@@ -0,0 +1,54 @@
+package ru.kolokolnin.todolist.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import ru.kolokolnin.todolist.dto.ErrorResponse;
+import ru.kolokolnin.todolist.dto.TaskStatsResponse;
+import ru.kolokolnin.todolist.service.TaskStatsService;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/tasks/stats")
+@RequiredArgsConstructor
+@Tag(name = "Tasks stats", description = "API для сводной статистики по задачам")
+public class TaskStatsController {
+
+    private final TaskStatsService taskStatsService;
+
+    @Operation(
+            summary = "Получить статистику задач",
+            description = "Возвращает число всех, выполненных и открытых задач и гистограмму созданных "
+                    + "и выполненных задач по дням; счетчики обновляются после фиксации каждого изменения"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Статистика получена",
+                    content = @Content(schema = @Schema(implementation = TaskStatsResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Недопустимая длина периода",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @GetMapping
+    public ResponseEntity<TaskStatsResponse> getStats(
+            @Parameter(description = "Число дней в гистограмме, включая сегодняшний", example = "30")
+            @RequestParam(defaultValue = "30") int days) {
+        log.debug("GET /api/v1/tasks/stats - Getting task statistics");
+        return ResponseEntity.ok(taskStatsService.getStats(days));
+    }
+}
@@ -0,0 +1,40 @@
+package ru.kolokolnin.todolist.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+public class ReplicaStickiness {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReplicaStickiness(Duration maxLag, long maximumClients) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(maxLag)
+                .maximumSize(maximumClients)
+                .build();
+    }
+
+    public static boolean isPinned() {
+        return PINNED.get() != null;
+    }
+
+    static void pin() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    static void unpin() {
+        PINNED.remove();
+    }
+
+    boolean wroteRecently(String clientId) {
+        return recentWriters.getIfPresent(clientId) != null;
+    }
+
+    void recordWrite(String clientId) {
+        recentWriters.put(clientId, Boolean.TRUE);
+    }
+}
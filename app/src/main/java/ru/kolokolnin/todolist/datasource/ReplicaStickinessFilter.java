@@ -0,0 +1,45 @@
+package ru.kolokolnin.todolist.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+
+public class ReplicaStickinessFilter extends OncePerRequestFilter {
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final ReplicaStickiness stickiness;
+    private final String clientIdHeader;
+
+    public ReplicaStickinessFilter(ReplicaStickiness stickiness, String clientIdHeader) {
+        this.stickiness = stickiness;
+        this.clientIdHeader = clientIdHeader;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String clientId = clientId(request);
+        if (stickiness.wroteRecently(clientId)) {
+            ReplicaStickiness.pin();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicaStickiness.unpin();
+            if (!SAFE_METHODS.contains(request.getMethod()) && response.getStatus() < 400) {
+                stickiness.recordWrite(clientId);
+            }
+        }
+    }
+
+    private String clientId(HttpServletRequest request) {
+        String clientId = request.getHeader(clientIdHeader);
+        return clientId != null && !clientId.isBlank() ? clientId : request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,31 @@
+package ru.kolokolnin.todolist.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.UUID;
+
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Результат обработки одного элемента пакета")
+public record TaskBatchItemResult(
+        @Schema(description = "Позиция элемента в запросе", example = "0")
+        int index,
+
+        @Schema(description = "UUID задачи", example = "a1b2c3d4-e5f6-7890-abcd-ef1234567890")
+        UUID id,
+
+        @Schema(description = "HTTP-статус обработки элемента", example = "201")
+        int status,
+
+        @Schema(description = "Данные задачи после операции")
+        TaskResponse task,
+
+        @Schema(description = "Код ошибки", example = "VALIDATION_ERROR")
+        String errorCode,
+
+        @Schema(description = "Сообщение об ошибке", example = "title: Title is required")
+        String message
+) {
+}
@@ -0,0 +1,18 @@
+package ru.kolokolnin.todolist.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Результат пакетной операции")
+public record TaskBatchResponse(
+        @Schema(description = "Количество успешно обработанных элементов", example = "99")
+        int succeeded,
+
+        @Schema(description = "Количество элементов с ошибкой", example = "1")
+        int failed,
+
+        @Schema(description = "Результаты по каждому элементу в порядке запроса")
+        List<TaskBatchItemResult> results
+) {
+}
@@ -0,0 +1,21 @@
+package ru.kolokolnin.todolist.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Изменения задач после курсора синхронизации")
+public record TaskChangesResponse(
+        @Schema(description = "Созданные или измененные задачи")
+        List<TaskResponse> updated,
+
+        @Schema(description = "Удаленные задачи")
+        List<TaskTombstoneResponse> deleted,
+
+        @Schema(description = "Курсор для следующего запроса синхронизации", example = "MjAyNC0wMS0xNVQxMDozMDowMHxhMWIyYzNkNA")
+        String nextCursor,
+
+        @Schema(description = "Есть ли еще изменения после курсора", example = "false")
+        boolean hasMore
+) {
+}
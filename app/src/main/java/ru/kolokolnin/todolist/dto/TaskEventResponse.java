@@ -0,0 +1,23 @@
+package ru.kolokolnin.todolist.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import ru.kolokolnin.todolist.event.TaskChangedEvent;
+
+import java.util.UUID;
+
+@Schema(description = "Событие изменения задачи в потоке SSE")
+public record TaskEventResponse(
+        @Schema(description = "Тип изменения", example = "UPDATED")
+        TaskChangedEvent.Type type,
+
+        @Schema(description = "Идентификатор задачи", example = "123e4567-e89b-12d3-a456-426614174000")
+        UUID id,
+
+        @Schema(description = "Задача после изменения; отсутствует для удаления")
+        TaskResponse task
+) {
+
+    public static TaskEventResponse from(TaskChangedEvent event) {
+        return new TaskEventResponse(event.type(), event.id(), event.task());
+    }
+}
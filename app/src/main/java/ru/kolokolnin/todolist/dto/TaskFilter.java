@@ -0,0 +1,12 @@
+package ru.kolokolnin.todolist.dto;
+
+import java.time.LocalDateTime;
+
+public record TaskFilter(
+        Boolean completed,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        LocalDateTime updatedFrom,
+        LocalDateTime updatedTo
+) {
+}
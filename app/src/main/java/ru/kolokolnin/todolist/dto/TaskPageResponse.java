@@ -0,0 +1,18 @@
+package ru.kolokolnin.todolist.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Страница задач с курсором продолжения")
+public record TaskPageResponse(
+        @Schema(description = "Задачи текущей страницы")
+        List<TaskResponse> items,
+
+        @Schema(description = "Непрозрачный курсор следующей страницы", example = "MjAyNC0wMS0xNVQxMDozMDowMHxhMWIyYzNkNA")
+        String nextCursor,
+
+        @Schema(description = "Есть ли следующая страница", example = "true")
+        boolean hasMore
+) {
+}
@@ -0,0 +1,74 @@
+package ru.kolokolnin.todolist.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.oas.annotations.media.Schema;
+import ru.kolokolnin.todolist.exception.ValidationException;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Поле со значением {@code null} в патче отсутствует, {@link Optional#empty()} — передано как JSON null.
+ * Ограничения на значения не дублируются: их проверяет {@link TaskRequest}, полученный применением патча.
+ */
+@Schema(description = "Частичное обновление задачи (JSON Merge Patch, RFC 7396): "
+        + "отсутствующие поля не меняются, null в description удаляет описание")
+public record TaskPatch(
+        @Schema(implementation = String.class, description = "Название задачи", example = "Изучить Spring Boot",
+                maxLength = 500)
+        Optional<String> title,
+
+        @Schema(implementation = String.class, description = "Описание задачи",
+                example = "Изучить основы Spring Boot", maxLength = 2000)
+        Optional<String> description,
+
+        @Schema(implementation = Boolean.class, description = "Статус выполнения задачи", example = "true")
+        Optional<Boolean> completed
+) {
+
+    private static final Set<String> FIELDS = Set.of("title", "description", "completed");
+
+    // Parsed from the tree because a typed body cannot tell an absent field from an explicit null
+    public static TaskPatch fromMergePatch(JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new ValidationException("patch: must be a JSON object");
+        }
+        for (Iterator<String> names = patch.fieldNames(); names.hasNext(); ) {
+            String name = names.next();
+            if (!FIELDS.contains(name)) {
+                throw new ValidationException(name + ": unknown field");
+            }
+        }
+
+        return new TaskPatch(
+                field(patch, "title", true, JsonNode::isTextual, JsonNode::textValue, "must be a string"),
+                field(patch, "description", true, JsonNode::isTextual, JsonNode::textValue, "must be a string"),
+                field(patch, "completed", false, JsonNode::isBoolean, JsonNode::booleanValue, "must be a boolean"));
+    }
+
+    public TaskRequest applyTo(TaskRequest current) {
+        return new TaskRequest(
+                title == null ? current.title() : title.orElse(null),
+                description == null ? current.description() : description.orElse(null),
+                completed == null ? current.completed() : completed.orElse(null));
+    }
+
+    // A nullable field passes an explicit null on to validation of the merged request
+    private static <T> Optional<T> field(JsonNode patch, String name, boolean nullable, Predicate<JsonNode> type,
+                                         Function<JsonNode, T> value, String typeMessage) {
+        JsonNode node = patch.get(name);
+        if (node == null) {
+            return null;
+        }
+        if (nullable && node.isNull()) {
+            return Optional.empty();
+        }
+        if (!type.test(node)) {
+            throw new ValidationException(name + ": " + typeMessage);
+        }
+        return Optional.of(value.apply(node));
+    }
+}
@@ -0,0 +1,21 @@
+package ru.kolokolnin.todolist.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Результаты полнотекстового поиска задач")
+public record TaskSearchResponse(
+        @Schema(description = "Найденные задачи в порядке релевантности")
+        List<TaskResponse> items,
+
+        @Schema(description = "Число найденных задач (точное до 1000, далее нижняя оценка)", example = "42")
+        long total,
+
+        @Schema(description = "Точно ли число найденных задач; false — total является нижней оценкой", example = "true")
+        boolean totalExact,
+
+        @Schema(description = "Есть ли следующие результаты", example = "true")
+        boolean hasMore
+) {
+}
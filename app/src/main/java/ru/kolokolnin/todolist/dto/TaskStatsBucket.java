@@ -0,0 +1,18 @@
+package ru.kolokolnin.todolist.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+
+@Schema(description = "Число созданных и выполненных задач за день")
+public record TaskStatsBucket(
+        @Schema(description = "День", example = "2024-01-15")
+        LocalDate date,
+
+        @Schema(description = "Создано задач", example = "12")
+        long created,
+
+        @Schema(description = "Выполнено задач", example = "7")
+        long completed
+) {
+}
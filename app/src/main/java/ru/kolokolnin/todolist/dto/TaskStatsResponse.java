@@ -0,0 +1,25 @@
+package ru.kolokolnin.todolist.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "Сводная статистика по задачам")
+public record TaskStatsResponse(
+        @Schema(description = "Всего задач", example = "120")
+        long total,
+
+        @Schema(description = "Выполненных задач", example = "45")
+        long completed,
+
+        @Schema(description = "Открытых задач", example = "75")
+        long open,
+
+        @Schema(description = "Гистограмма по дням, от старых к новым")
+        List<TaskStatsBucket> daily,
+
+        @Schema(description = "Время расчета статистики", example = "2024-01-15T10:30:00")
+        LocalDateTime generatedAt
+) {
+}
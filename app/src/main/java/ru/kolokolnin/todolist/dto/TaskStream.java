@@ -0,0 +1,12 @@
+package ru.kolokolnin.todolist.dto;
+
+import java.util.function.Consumer;
+
+/**
+ * Тело ответа со списком задач, которое пишется в поток по мере чтения из базы.
+ */
+@FunctionalInterface
+public interface TaskStream {
+
+    void forEach(Consumer<TaskResponse> consumer);
+}
@@ -0,0 +1,18 @@
+package ru.kolokolnin.todolist.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Schema(description = "Отметка об удалении задачи")
+public record TaskTombstoneResponse(
+        @Schema(description = "UUID удаленной задачи", example = "a1b2c3d4-e5f6-7890-abcd-ef1234567890")
+        UUID id,
+
+        @Schema(description = "Дата и время удаления", example = "2024-01-15T10:30:00")
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        LocalDateTime deletedAt
+) {
+}
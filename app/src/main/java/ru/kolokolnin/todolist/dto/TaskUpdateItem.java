@@ -0,0 +1,16 @@
+package ru.kolokolnin.todolist.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+@Schema(description = "Элемент пакетного обновления задач")
+public record TaskUpdateItem(
+        @Schema(description = "UUID задачи", example = "a1b2c3d4-e5f6-7890-abcd-ef1234567890",
+                requiredMode = Schema.RequiredMode.REQUIRED)
+        UUID id,
+
+        @Schema(description = "Новые данные задачи", requiredMode = Schema.RequiredMode.REQUIRED)
+        TaskRequest task
+) {
+}
@@ -0,0 +1,105 @@
+package ru.kolokolnin.todolist.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import ru.kolokolnin.todolist.cache.TaskIdFilterListener;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@EntityListeners(TaskIdFilterListener.class)
+@DynamicUpdate
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_tasks_completed_created_at_id", columnList = "completed, created_at, id"),
+        @Index(name = "idx_tasks_updated_at_id", columnList = "updated_at, id"),
+        @Index(name = "idx_tasks_completed_at", columnList = "completed_at")
+})
+public class TaskEntity {
+
+    @Id
+    private UUID id;
+
+    @Column(nullable = false, length = 500)
+    private String title;
+
+    @Column(length = 2000)
+    private String description;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Boolean completed = false;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Version
+    private Long version;
+
+    @PrePersist
+    protected void onCreate() {
+        if (id == null) {
+            id = UUID.randomUUID();
+        }
+        createdAt = createdAt == null ? now() : truncate(createdAt);
+        updatedAt = updatedAt == null ? now() : truncate(updatedAt);
+        if (Boolean.TRUE.equals(completed) && completedAt == null) {
+            completedAt = createdAt;
+        }
+    }
+
+    // Every entity write path goes through here, so completedAt stays in step with the flag
+    public void setCompleted(Boolean completed) {
+        if (Boolean.TRUE.equals(completed) && completedAt == null) {
+            completedAt = now();
+        } else if (Boolean.FALSE.equals(completed)) {
+            completedAt = null;
+        }
+        this.completed = completed;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = now();
+    }
+
+    // Columns are timestamp(6): a managed entity must hold what the database stores, or keyset
+    // cursors built from it within the same transaction compare against rounded values
+    private static LocalDateTime now() {
+        return truncate(LocalDateTime.now());
+    }
+
+    private static LocalDateTime truncate(LocalDateTime dateTime) {
+        return dateTime.truncatedTo(ChronoUnit.MICROS);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+package ru.kolokolnin.todolist.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "task_sync_state")
+public class TaskSyncStateEntity {
+
+    // The table holds a single row, created by the first purge
+    public static final short ID = 1;
+
+    @Id
+    @Column(name = "id")
+    private Short id;
+
+    @Column(name = "tombstones_purged_before", nullable = false)
+    private LocalDateTime tombstonesPurgedBefore;
+}
@@ -0,0 +1,49 @@
+package ru.kolokolnin.todolist.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "task_tombstones", indexes = {
+        @Index(name = "idx_task_tombstones_deleted_at_task_id", columnList = "deleted_at, task_id")
+})
+public class TaskTombstoneEntity implements Persistable<UUID> {
+
+    @Id
+    @Column(name = "task_id")
+    private UUID taskId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    // Same precision as the column, so a cursor built from this instance matches the stored row
+    @PrePersist
+    protected void onCreate() {
+        deletedAt = deletedAt.truncatedTo(ChronoUnit.MICROS);
+    }
+
+    @Override
+    public UUID getId() {
+        return taskId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
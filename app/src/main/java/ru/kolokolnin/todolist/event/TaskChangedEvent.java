@@ -0,0 +1,27 @@
+package ru.kolokolnin.todolist.event;
+
+import ru.kolokolnin.todolist.dto.TaskResponse;
+
+import java.util.UUID;
+
+// previous is the committed state the change replaced, so listeners can apply exact deltas
+public record TaskChangedEvent(Type type, UUID id, TaskResponse task, TaskResponse previous) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static TaskChangedEvent created(TaskResponse task) {
+        return new TaskChangedEvent(Type.CREATED, task.id(), task, null);
+    }
+
+    public static TaskChangedEvent updated(TaskResponse previous, TaskResponse task) {
+        return new TaskChangedEvent(Type.UPDATED, task.id(), task, previous);
+    }
+
+    public static TaskChangedEvent deleted(TaskResponse previous) {
+        return new TaskChangedEvent(Type.DELETED, previous.id(), null, previous);
+    }
+}
@@ -0,0 +1,7 @@
+package ru.kolokolnin.todolist.exception;
+
+public class IdempotencyKeyInProgressException extends RuntimeException {
+    public IdempotencyKeyInProgressException(String key) {
+        super("Request with idempotency key " + key + " is still in progress");
+    }
+}
@@ -0,0 +1,7 @@
+package ru.kolokolnin.todolist.exception;
+
+public class IdempotencyKeyReusedException extends RuntimeException {
+    public IdempotencyKeyReusedException(String key) {
+        super("Idempotency key " + key + " was already used with a different request");
+    }
+}
@@ -0,0 +1,16 @@
+package ru.kolokolnin.todolist.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class IngestQueueFullException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public IngestQueueFullException(Duration retryAfter) {
+        super("Task ingestion queue is full, retry later");
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,16 @@
+package ru.kolokolnin.todolist.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public ServiceOverloadedException(Duration retryAfter) {
+        super("Service is overloaded, retry later");
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,9 @@
+package ru.kolokolnin.todolist.exception;
+
+import java.time.LocalDateTime;
+
+public class SyncCursorExpiredException extends RuntimeException {
+    public SyncCursorExpiredException(LocalDateTime purgedBefore) {
+        super("Sync cursor is older than purged deletions (" + purgedBefore + "), resync from scratch");
+    }
+}
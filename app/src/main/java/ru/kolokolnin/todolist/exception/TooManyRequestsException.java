@@ -0,0 +1,16 @@
+package ru.kolokolnin.todolist.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public TooManyRequestsException(Duration retryAfter) {
+        super("Request rate limit exceeded, retry later");
+        this.retryAfter = retryAfter;
+    }
+}
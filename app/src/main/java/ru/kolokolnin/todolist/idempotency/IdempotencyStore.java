@@ -0,0 +1,125 @@
+package ru.kolokolnin.todolist.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import ru.kolokolnin.todolist.config.IdempotencyProperties;
+import ru.kolokolnin.todolist.exception.IdempotencyKeyInProgressException;
+import ru.kolokolnin.todolist.exception.IdempotencyKeyReusedException;
+import ru.kolokolnin.todolist.exception.ValidationException;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
+    private final ObjectMapper objectMapper;
+    private final IdempotencyProperties properties;
+    // Weighed by stored tasks, so a few large batch responses cannot crowd out memory
+    private final Cache<String, Entry> entries;
+
+    public IdempotencyStore(ObjectMapper objectMapper, IdempotencyProperties properties) {
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.entries = Caffeine.newBuilder()
+                .expireAfterWrite(properties.ttl())
+                .maximumWeight(properties.maximumWeight())
+                .weigher((String key, Entry entry) -> entry.weight)
+                .build();
+    }
+
+    public <T> IdempotentResult<T> execute(String scope, String key, Object request, Supplier<T> action) {
+        return execute(scope, key, request, action, value -> 1);
+    }
+
+    public <T> IdempotentResult<T> execute(String scope, String key, Object request, Supplier<T> action,
+                                           ToIntFunction<T> weigher) {
+        if (key == null) {
+            return new IdempotentResult<>(action.get(), false);
+        }
+        if (key.isBlank() || key.length() > properties.maxKeyLength()) {
+            throw new ValidationException(IDEMPOTENCY_KEY + ": must be 1.." + properties.maxKeyLength()
+                    + " characters");
+        }
+
+        String cacheKey = scope + ' ' + key;
+        Entry created = new Entry(fingerprint(request));
+        Entry existing = entries.asMap().putIfAbsent(cacheKey, created);
+        if (existing != null) {
+            if (!existing.fingerprint.equals(created.fingerprint)) {
+                throw new IdempotencyKeyReusedException(key);
+            }
+            log.debug("Replaying response for idempotency key {}", key);
+            return new IdempotentResult<>(await(existing, key), true);
+        }
+
+        T value;
+        try {
+            value = action.get();
+        } catch (RuntimeException | Error e) {
+            // A failed attempt leaves no record, so the client's retry executes again
+            entries.asMap().remove(cacheKey, created);
+            created.result.completeExceptionally(e);
+            throw e;
+        }
+        created.weight = Math.max(1, weigher.applyAsInt(value));
+        created.result.complete(value);
+        entries.asMap().replace(cacheKey, created, created);
+        return new IdempotentResult<>(value, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T await(Entry entry, String key) {
+        try {
+            return (T) entry.result.get(properties.inProgressWait().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IdempotencyKeyInProgressException(key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInProgressException(key);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // Hash of the parsed request, so the same tasks sent as JSON, CBOR or NDJSON count as one request
+    private String fingerprint(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not fingerprint request", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Entry {
+
+        private final String fingerprint;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private volatile int weight = 1;
+
+        private Entry(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package ru.kolokolnin.todolist.idempotency;
+
+public record IdempotentResult<T>(T value, boolean replayed) {
+}
@@ -0,0 +1,9 @@
+package ru.kolokolnin.todolist.ingest;
+
+import ru.kolokolnin.todolist.dto.TaskRequest;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record AcceptedTask(UUID id, TaskRequest task, LocalDateTime acceptedAt) {
+}
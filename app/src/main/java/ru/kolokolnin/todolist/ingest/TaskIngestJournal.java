@@ -0,0 +1,209 @@
+package ru.kolokolnin.todolist.ingest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@Slf4j
+class TaskIngestJournal implements Closeable {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".ndjson";
+    private static final String DEAD_LETTER_FILE = "dead-letter.ndjson";
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final boolean fsync;
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+    private final List<Path> replayable;
+
+    private final Object writeLock = new Object();
+    private final Object syncLock = new Object();
+    private final Map<Long, Integer> pending = new HashMap<>();
+    private long segment;
+    private FileChannel channel;
+    private long segmentSize;
+    private long written;
+    private volatile long synced;
+
+    TaskIngestJournal(Path directory, long segmentBytes, boolean fsync, ObjectMapper objectMapper) throws IOException {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.fsync = fsync;
+        this.writer = objectMapper.writerFor(AcceptedTask.class);
+        this.reader = objectMapper.readerFor(AcceptedTask.class);
+
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            this.replayable = files.filter(TaskIngestJournal::isSegment).sorted().toList();
+        }
+        this.segment = replayable.isEmpty() ? 0 : segmentIndex(replayable.get(replayable.size() - 1)) + 1;
+        this.channel = open(segment);
+    }
+
+    List<AcceptedTask> replay() throws IOException {
+        List<AcceptedTask> tasks = new ArrayList<>();
+        for (Path path : replayable) {
+            try (BufferedReader lines = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = lines.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    try {
+                        tasks.add(reader.readValue(line));
+                    } catch (JsonProcessingException e) {
+                        // Only the tail of a segment can be torn by a crash, and it was never acknowledged
+                        log.warn("Skipping truncated journal entry in {}", path.getFileName());
+                        break;
+                    }
+                }
+            }
+        }
+        return tasks;
+    }
+
+    void discardReplayed() throws IOException {
+        for (Path path : replayable) {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    long append(AcceptedTask task) throws IOException {
+        byte[] json = writer.writeValueAsBytes(task);
+        ByteBuffer line = ByteBuffer.allocate(json.length + 1).put(json).put((byte) '\n').flip();
+
+        long position;
+        long appendedTo;
+        synchronized (writeLock) {
+            if (segmentSize >= segmentBytes) {
+                roll();
+            }
+            while (line.hasRemaining()) {
+                channel.write(line);
+            }
+            segmentSize += json.length + 1;
+            written += json.length + 1;
+            position = written;
+            appendedTo = segment;
+            pending.merge(segment, 1, Integer::sum);
+        }
+
+        if (fsync) {
+            awaitDurable(position);
+        }
+        return appendedTo;
+    }
+
+    void acknowledge(Map<Long, Integer> flushedBySegment) throws IOException {
+        synchronized (writeLock) {
+            for (Map.Entry<Long, Integer> flushed : flushedBySegment.entrySet()) {
+                int remaining = pending.merge(flushed.getKey(), -flushed.getValue(), Integer::sum);
+                if (remaining <= 0 && flushed.getKey() != segment) {
+                    pending.remove(flushed.getKey());
+                    Files.deleteIfExists(segmentPath(flushed.getKey()));
+                }
+            }
+        }
+    }
+
+    // Same line format as the segments, so dead-lettered tasks can be inspected and re-submitted by hand
+    void deadLetter(AcceptedTask task) throws IOException {
+        byte[] json = writer.writeValueAsBytes(task);
+        ByteBuffer line = ByteBuffer.allocate(json.length + 1).put(json).put((byte) '\n').flip();
+        try (FileChannel deadLetters = FileChannel.open(directory.resolve(DEAD_LETTER_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (line.hasRemaining()) {
+                deadLetters.write(line);
+            }
+            deadLetters.force(false);
+        }
+    }
+
+    // A fully flushed current segment is removed too, otherwise the next start would replay it
+    @Override
+    public void close() throws IOException {
+        synchronized (writeLock) {
+            channel.force(false);
+            channel.close();
+            if (pending.getOrDefault(segment, 0) <= 0) {
+                pending.remove(segment);
+                Files.deleteIfExists(segmentPath(segment));
+            }
+        }
+    }
+
+    // Group commit: one fsync covers every entry appended before it started
+    private void awaitDurable(long position) throws IOException {
+        if (synced >= position) {
+            return;
+        }
+        synchronized (syncLock) {
+            if (synced >= position) {
+                return;
+            }
+            long target;
+            FileChannel current;
+            synchronized (writeLock) {
+                target = written;
+                current = channel;
+            }
+            try {
+                current.force(false);
+            } catch (ClosedChannelException e) {
+                // The segment was rolled, and rolling forces it before closing
+            }
+            synced = target;
+        }
+    }
+
+    private void roll() throws IOException {
+        channel.force(false);
+        channel.close();
+        if (pending.getOrDefault(segment, 0) <= 0) {
+            pending.remove(segment);
+            Files.deleteIfExists(segmentPath(segment));
+        }
+        segment++;
+        segmentSize = 0;
+        channel = open(segment);
+    }
+
+    private FileChannel open(long index) throws IOException {
+        return FileChannel.open(segmentPath(index), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    private Path segmentPath(long index) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+    }
+
+    private static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+
+    private static long segmentIndex(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
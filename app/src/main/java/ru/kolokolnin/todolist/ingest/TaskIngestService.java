@@ -0,0 +1,215 @@
+package ru.kolokolnin.todolist.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+import ru.kolokolnin.todolist.config.IngestProperties;
+import ru.kolokolnin.todolist.dto.TaskRequest;
+import ru.kolokolnin.todolist.exception.IngestQueueFullException;
+import ru.kolokolnin.todolist.service.TaskBatchService;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "todo.ingest", name = "enabled", havingValue = "true")
+public class TaskIngestService implements SmartLifecycle {
+
+    // Starts before and stops after the web server, so the journal is replayed before traffic and drained after it
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+    private static final long RETRY_BACKOFF_MILLIS = 1000;
+
+    private final TaskBatchService taskBatchService;
+    private final IngestProperties properties;
+    private final TaskIngestJournal journal;
+    private final Semaphore permits;
+    private final BlockingQueue<Entry> queue = new LinkedBlockingQueue<>();
+    private final Timer flushTimer;
+    private final Counter rejected;
+    private final Counter deadLettered;
+    private final Thread flusher;
+    private volatile boolean running;
+
+    public TaskIngestService(TaskBatchService taskBatchService, IngestProperties properties,
+                             ObjectMapper objectMapper, MeterRegistry meterRegistry) throws IOException {
+        this.taskBatchService = taskBatchService;
+        this.properties = properties;
+        this.journal = new TaskIngestJournal(properties.journalDirectory(),
+                properties.journalSegmentSize().toBytes(), properties.journalFsync(), objectMapper);
+        this.permits = new Semaphore(properties.queueCapacity());
+        this.flusher = new Thread(this::flushLoop, "task-ingest-flusher");
+
+        Gauge.builder("todo.ingest.queue.depth", queue, BlockingQueue::size)
+                .description("Accepted tasks waiting to be written")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("todo.ingest.flush")
+                .description("Time to write one batch of accepted tasks")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("todo.ingest.rejected")
+                .description("Tasks rejected because the ingestion queue was full")
+                .register(meterRegistry);
+        this.deadLettered = Counter.builder("todo.ingest.dead_lettered")
+                .description("Accepted tasks that could not be written and were moved to the dead-letter log")
+                .register(meterRegistry);
+    }
+
+    public AcceptedTask accept(TaskRequest taskRequest) {
+        if (!running || !permits.tryAcquire()) {
+            rejected.increment();
+            throw new IngestQueueFullException(properties.retryAfter());
+        }
+
+        AcceptedTask task = new AcceptedTask(UUID.randomUUID(), taskRequest, LocalDateTime.now());
+        try {
+            long segment = journal.append(task);
+            queue.add(new Entry(task, segment));
+        } catch (IOException e) {
+            permits.release();
+            throw new UncheckedIOException("Could not journal accepted task", e);
+        }
+        return task;
+    }
+
+    @Override
+    public void start() {
+        try {
+            List<AcceptedTask> replayed = journal.replay();
+            for (int from = 0; from < replayed.size(); from += properties.flushBatchSize()) {
+                taskBatchService.insertAccepted(
+                        replayed.subList(from, Math.min(from + properties.flushBatchSize(), replayed.size())));
+            }
+            journal.discardReplayed();
+            if (!replayed.isEmpty()) {
+                log.info("Replayed {} journaled tasks", replayed.size());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not replay ingestion journal", e);
+        }
+        running = true;
+        flusher.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            flusher.join();
+            journal.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            log.error("Could not close ingestion journal", e);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void flushLoop() {
+        List<Entry> batch = new ArrayList<>(properties.flushBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                Entry first = queue.poll(properties.flushInterval().toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.flushBatchSize() - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // The entries stay in the journal and are replayed on the next start; freeing their permits
+                // keeps the queue from filling up behind them
+                log.error("Flushing {} accepted tasks failed unexpectedly, leaving them for journal replay",
+                        batch.size(), e);
+                permits.release(batch.size());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Entry> batch) throws InterruptedException {
+        List<Entry> handled = new ArrayList<>(batch.size());
+        write(batch, handled);
+
+        Map<Long, Integer> bySegment = new HashMap<>();
+        handled.forEach(entry -> bySegment.merge(entry.segment(), 1, Integer::sum));
+        try {
+            journal.acknowledge(bySegment);
+        } catch (IOException e) {
+            log.warn("Could not remove flushed journal segments", e);
+        }
+        permits.release(batch.size());
+    }
+
+    // Transient failures are retried; any other failure is bisected down to the offending task, which is
+    // dead-lettered so the rest of the batch still gets written. Returns false once shutdown interrupts retries.
+    private boolean write(List<Entry> batch, List<Entry> handled) throws InterruptedException {
+        List<AcceptedTask> tasks = batch.stream().map(Entry::task).toList();
+        while (true) {
+            try {
+                flushTimer.record(() -> taskBatchService.insertAccepted(tasks));
+                handled.addAll(batch);
+                return true;
+            } catch (TransientDataAccessException | CannotCreateTransactionException e) {
+                if (!running) {
+                    log.error("Flushing {} accepted tasks failed during shutdown, leaving them for journal replay",
+                            tasks.size(), e);
+                    return false;
+                }
+                log.error("Flushing {} accepted tasks failed, retrying", tasks.size(), e);
+                Thread.sleep(RETRY_BACKOFF_MILLIS);
+            } catch (RuntimeException e) {
+                if (batch.size() == 1) {
+                    deadLetter(batch.get(0), e);
+                    handled.addAll(batch);
+                    return true;
+                }
+                int middle = batch.size() / 2;
+                return write(batch.subList(0, middle), handled) && write(batch.subList(middle, batch.size()), handled);
+            }
+        }
+    }
+
+    private void deadLetter(Entry entry, RuntimeException cause) {
+        log.error("Moving accepted task {} to the dead-letter log", entry.task().id(), cause);
+        try {
+            journal.deadLetter(entry.task());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not dead-letter accepted task " + entry.task().id(), e);
+        }
+        deadLettered.increment();
+    }
+
+    private record Entry(AcceptedTask task, long segment) {
+    }
+}
@@ -0,0 +1,50 @@
+package ru.kolokolnin.todolist.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import ru.kolokolnin.todolist.config.RequestLoggingProperties;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Slf4j
+@Component
+public class SampledRequestLoggingFilter extends OncePerRequestFilter {
+
+    private final double sampleRate;
+    private final long slowRequestNanos;
+
+    public SampledRequestLoggingFilter(RequestLoggingProperties properties) {
+        this.sampleRate = properties.requestSampleRate();
+        this.slowRequestNanos = properties.slowRequestThreshold().toNanos();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!log.isInfoEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long elapsed = System.nanoTime() - startedAt;
+            int status = response.getStatus();
+            if (status >= 500 || elapsed >= slowRequestNanos) {
+                log.warn("{} {} -> {} in {} ms", request.getMethod(), request.getRequestURI(), status,
+                        elapsed / 1_000_000);
+            } else if (sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+                log.info("{} {} -> {} in {} ms", request.getMethod(), request.getRequestURI(), status,
+                        elapsed / 1_000_000);
+            }
+        }
+    }
+}
@@ -18,16 +18,20 @@ public interface TaskMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "completedAt", ignore = true)
     @Mapping(target = "version", ignore = true)
     TaskEntity toEntity(TaskRequest taskRequest);
 
     TaskResponse toResponse(TaskEntity taskEntity);
 
+    TaskRequest toRequest(TaskEntity taskEntity);
+
     List<TaskResponse> toResponseList(List<TaskEntity> taskEntities);
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "completedAt", ignore = true)
     @Mapping(target = "version", ignore = true)
     void updateEntityFromRequest(TaskRequest taskRequest, @MappingTarget TaskEntity taskEntity);
 
@@ -0,0 +1,40 @@
+package ru.kolokolnin.todolist.metrics;
+
+import org.hibernate.BaseSessionEventListener;
+
+public class StatementMetricsListener extends BaseSessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        started();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        ended();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        started();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        ended();
+    }
+
+    private static void started() {
+        StatementStats stats = StatementStats.current();
+        if (stats != null) {
+            stats.statementStarted();
+        }
+    }
+
+    private static void ended() {
+        StatementStats stats = StatementStats.current();
+        if (stats != null) {
+            stats.statementEnded();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package ru.kolokolnin.todolist.metrics;
+
+public final class StatementStats {
+
+    private static final ThreadLocal<StatementStats> CURRENT = new ThreadLocal<>();
+
+    private int count;
+    private long nanos;
+    private long startedAt;
+
+    private StatementStats() {
+    }
+
+    public static StatementStats begin() {
+        StatementStats stats = new StatementStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    static StatementStats current() {
+        return CURRENT.get();
+    }
+
+    void statementStarted() {
+        startedAt = System.nanoTime();
+    }
+
+    void statementEnded() {
+        count++;
+        if (startedAt != 0) {
+            nanos += System.nanoTime() - startedAt;
+            startedAt = 0;
+        }
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public long nanos() {
+        return nanos;
+    }
+}
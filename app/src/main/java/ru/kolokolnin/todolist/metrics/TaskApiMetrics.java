@@ -0,0 +1,48 @@
+package ru.kolokolnin.todolist.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class TaskApiMetrics {
+
+    private final MeterRegistry registry;
+    private final Timer exportTimer;
+    private final Counter exportedTasks;
+
+    public TaskApiMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.exportTimer = Timer.builder("todo.tasks.export")
+                .description("Time to read, map and serialize a full NDJSON export")
+                .register(registry);
+        this.exportedTasks = Counter.builder("todo.tasks.exported")
+                .description("Tasks written by NDJSON exports")
+                .register(registry);
+    }
+
+    public void recordStatements(String method, String uri, StatementStats stats) {
+        DistributionSummary.builder("todo.db.statements")
+                .description("JDBC statements executed per request")
+                .tags("method", method, "uri", uri)
+                .register(registry)
+                .record(stats.count());
+        Timer.builder("todo.db.time")
+                .description("Time spent executing JDBC statements per request")
+                .tags("method", method, "uri", uri)
+                .register(registry)
+                .record(stats.nanos(), TimeUnit.NANOSECONDS);
+    }
+
+    public void taskExported() {
+        exportedTasks.increment();
+    }
+
+    public void recordExport(long nanos) {
+        exportTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,6 @@
+package ru.kolokolnin.todolist.repo;
+
+import java.time.LocalDate;
+
+public record DailyCount(LocalDate day, long count) {
+}
@@ -0,0 +1,88 @@
+package ru.kolokolnin.todolist.repo;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import ru.kolokolnin.todolist.entity.TaskEntity;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Repository
+public interface TaskRepository extends JpaRepository<TaskEntity, UUID>, JpaSpecificationExecutor<TaskEntity> {
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select t from TaskEntity t order by t.createdAt, t.id")
+    Stream<TaskEntity> streamAll();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select t.id from TaskEntity t")
+    Stream<UUID> streamAllIds();
+
+    @Query("select t from TaskEntity t "
+            + "where (t.updatedAt > :updatedAt or (t.updatedAt = :updatedAt and t.id > :id)) "
+            + "and t.updatedAt <= :until "
+            + "order by t.updatedAt, t.id")
+    List<TaskEntity> findChangedAfter(LocalDateTime updatedAt, UUID id, LocalDateTime until, Pageable pageable);
+
+    long countByCompleted(Boolean completed);
+
+    @Query("select new ru.kolokolnin.todolist.repo.DailyCount(cast(t.createdAt as LocalDate), count(t)) "
+            + "from TaskEntity t where t.createdAt >= :from "
+            + "group by cast(t.createdAt as LocalDate)")
+    List<DailyCount> countCreatedPerDay(LocalDateTime from);
+
+    @Query("select new ru.kolokolnin.todolist.repo.DailyCount(cast(t.completedAt as LocalDate), count(t)) "
+            + "from TaskEntity t where t.completedAt >= :from "
+            + "group by cast(t.completedAt as LocalDate)")
+    List<DailyCount> countCompletedPerDay(LocalDateTime from);
+
+    @Query("select t.id from TaskEntity t where t.id in :ids")
+    List<UUID> findExistingIds(Collection<UUID> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<TaskEntity> findForUpdateById(UUID id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<TaskEntity> findForUpdateByIdIn(Collection<UUID> ids);
+
+    @Query("select t.version from TaskEntity t where t.id = :id")
+    Optional<Long> findVersionById(UUID id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from TaskEntity t where t.id = :id")
+    int deleteTaskById(UUID id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update TaskEntity t set t.title = :title, t.description = :description, "
+            + "t.completed = coalesce(:completed, t.completed), "
+            + "t.completedAt = case when coalesce(:completed, t.completed) = true "
+            + "then coalesce(t.completedAt, :updatedAt) else null end, "
+            + "t.updatedAt = :updatedAt, t.version = t.version + 1 "
+            + "where t.id = :id and t.version = :version")
+    int updateByIdAndVersion(UUID id, Long version, String title, String description, Boolean completed,
+                             LocalDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from TaskEntity t where t.id = :id and t.version = :version")
+    int deleteByIdAndVersion(UUID id, Long version);
+}
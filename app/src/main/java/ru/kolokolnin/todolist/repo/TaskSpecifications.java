@@ -0,0 +1,54 @@
+package ru.kolokolnin.todolist.repo;
+
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+import ru.kolokolnin.todolist.dto.KeysetCursor;
+import ru.kolokolnin.todolist.dto.TaskFilter;
+import ru.kolokolnin.todolist.entity.TaskEntity;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<TaskEntity> matching(TaskFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            Path<LocalDateTime> createdAt = root.get("createdAt");
+            Path<LocalDateTime> updatedAt = root.get("updatedAt");
+
+            if (filter.completed() != null) {
+                predicates.add(cb.equal(root.get("completed"), filter.completed()));
+            }
+            if (filter.createdFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(createdAt, filter.createdFrom()));
+            }
+            if (filter.createdTo() != null) {
+                predicates.add(cb.lessThan(createdAt, filter.createdTo()));
+            }
+            if (filter.updatedFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(updatedAt, filter.updatedFrom()));
+            }
+            if (filter.updatedTo() != null) {
+                predicates.add(cb.lessThan(updatedAt, filter.updatedTo()));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    public static Specification<TaskEntity> createdAfter(KeysetCursor cursor) {
+        return (root, query, cb) -> {
+            Path<LocalDateTime> createdAt = root.get("createdAt");
+            Path<UUID> id = root.get("id");
+            return cb.or(
+                    cb.greaterThan(createdAt, cursor.timestamp()),
+                    cb.and(cb.equal(createdAt, cursor.timestamp()), cb.greaterThan(id, cursor.id())));
+        };
+    }
+}
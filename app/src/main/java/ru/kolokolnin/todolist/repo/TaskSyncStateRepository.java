@@ -0,0 +1,17 @@
+package ru.kolokolnin.todolist.repo;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import ru.kolokolnin.todolist.entity.TaskSyncStateEntity;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface TaskSyncStateRepository extends JpaRepository<TaskSyncStateEntity, Short> {
+
+    @Query("select s.tombstonesPurgedBefore from TaskSyncStateEntity s where s.id = "
+            + TaskSyncStateEntity.ID)
+    Optional<LocalDateTime> findTombstonesPurgedBefore();
+}
@@ -0,0 +1,31 @@
+package ru.kolokolnin.todolist.repo;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import ru.kolokolnin.todolist.entity.TaskTombstoneEntity;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstoneEntity, UUID> {
+
+    @Query("select t from TaskTombstoneEntity t "
+            + "where (t.deletedAt > :deletedAt or (t.deletedAt = :deletedAt and t.taskId > :taskId)) "
+            + "and t.deletedAt <= :until "
+            + "order by t.deletedAt, t.taskId")
+    List<TaskTombstoneEntity> findDeletedAfter(LocalDateTime deletedAt, UUID taskId, LocalDateTime until,
+                                               Pageable pageable);
+
+    @Query("select t.taskId from TaskTombstoneEntity t where t.taskId in :ids")
+    List<UUID> findDeletedIds(Collection<UUID> ids);
+
+    @Modifying
+    @Query("delete from TaskTombstoneEntity t where t.deletedAt < :cutoff")
+    int deleteDeletedBefore(LocalDateTime cutoff);
+}
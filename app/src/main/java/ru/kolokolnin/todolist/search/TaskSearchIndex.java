@@ -0,0 +1,236 @@
+package ru.kolokolnin.todolist.search;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.kolokolnin.todolist.config.SearchProperties;
+import ru.kolokolnin.todolist.dto.TaskResponse;
+import ru.kolokolnin.todolist.event.TaskChangedEvent;
+import ru.kolokolnin.todolist.service.TaskService;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+public class TaskSearchIndex {
+
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String DESCRIPTION = "description";
+    private static final float TITLE_BOOST = 2.0f;
+
+    private final TaskService taskService;
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final long refreshIntervalNanos;
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private volatile long lastRefresh = System.nanoTime();
+    // Non-null while a rebuild runs: changes committed meanwhile may be older or newer than what the export
+    // reads, so they are held back and applied once it has finished
+    private volatile List<TaskChangedEvent> pending;
+
+    public TaskSearchIndex(TaskService taskService, SearchProperties properties) {
+        this.taskService = taskService;
+        this.refreshIntervalNanos = properties.refreshInterval().toNanos();
+        try {
+            this.writer = new IndexWriter(new ByteBuffersDirectory(), new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE));
+            this.searcherManager = new SearcherManager(writer, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.nanoTime();
+        AtomicInteger indexed = new AtomicInteger();
+        synchronized (this) {
+            pending = new ArrayList<>();
+        }
+        try {
+            writer.deleteAll();
+            taskService.exportTasks(task -> {
+                index(task);
+                indexed.incrementAndGet();
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            synchronized (this) {
+                pending.forEach(this::apply);
+                pending = null;
+            }
+        }
+        try {
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("Search index rebuilt with {} tasks in {} ms", indexed.get(),
+                (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    @TransactionalEventListener
+    public synchronized void onTaskChanged(TaskChangedEvent event) {
+        if (pending != null) {
+            pending.add(event);
+        } else {
+            apply(event);
+        }
+    }
+
+    public SearchPage search(String text, int offset, int limit) {
+        Query query = parse(text);
+        if (query == null) {
+            return new SearchPage(List.of(), 0, true);
+        }
+
+        try {
+            refreshIfStale();
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query, offset + limit);
+                StoredFields storedFields = searcher.storedFields();
+                List<UUID> ids = new ArrayList<>(Math.max(0, topDocs.scoreDocs.length - offset));
+                for (int i = offset; i < topDocs.scoreDocs.length; i++) {
+                    Document document = storedFields.document(topDocs.scoreDocs[i].doc, Set.of(ID));
+                    ids.add(UUID.fromString(document.get(ID)));
+                }
+                // Past the collector's threshold Lucene stops counting and reports a lower bound
+                return new SearchPage(ids, topDocs.totalHits.value,
+                        topDocs.totalHits.relation == TotalHits.Relation.EQUAL_TO);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+    }
+
+    private void apply(TaskChangedEvent event) {
+        switch (event.type()) {
+            case CREATED, UPDATED -> index(event.task());
+            case DELETED -> delete(event.id());
+        }
+    }
+
+    private void index(TaskResponse task) {
+        Document document = new Document();
+        document.add(new StringField(ID, task.id().toString(), Field.Store.YES));
+        document.add(new TextField(TITLE, task.title(), Field.Store.NO));
+        if (task.description() != null) {
+            document.add(new TextField(DESCRIPTION, task.description(), Field.Store.NO));
+        }
+        try {
+            writer.updateDocument(new Term(ID, task.id().toString()), document);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        dirty.set(true);
+    }
+
+    private void delete(UUID id) {
+        try {
+            writer.deleteDocuments(new Term(ID, id.toString()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        dirty.set(true);
+    }
+
+    // Near-real-time: a reopen is paid at most once per refresh interval, and only by a query that follows a write.
+    // A half-built index is never published: searches keep the previous reader until the rebuild completes.
+    private void refreshIfStale() throws IOException {
+        long now = System.nanoTime();
+        if (pending == null && dirty.get() && now - lastRefresh >= refreshIntervalNanos && dirty.compareAndSet(true, false)) {
+            lastRefresh = now;
+            searcherManager.maybeRefreshBlocking();
+        }
+    }
+
+    // Every term must match in title or description; the last term also matches as a prefix
+    private Query parse(String text) {
+        List<String> terms = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream(TITLE, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (terms.isEmpty()) {
+            return null;
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (int i = 0; i < terms.size(); i++) {
+            query.add(anyField(terms.get(i), i == terms.size() - 1), BooleanClause.Occur.MUST);
+        }
+        return query.build();
+    }
+
+    private static Query anyField(String term, boolean prefix) {
+        BooleanQuery.Builder fields = new BooleanQuery.Builder();
+        fields.add(new BoostQuery(fieldQuery(TITLE, term, prefix), TITLE_BOOST), BooleanClause.Occur.SHOULD);
+        fields.add(fieldQuery(DESCRIPTION, term, prefix), BooleanClause.Occur.SHOULD);
+        return fields.build();
+    }
+
+    private static Query fieldQuery(String field, String term, boolean prefix) {
+        Query exact = new TermQuery(new Term(field, term));
+        if (!prefix) {
+            return exact;
+        }
+        return new BooleanQuery.Builder()
+                .add(exact, BooleanClause.Occur.SHOULD)
+                .add(new PrefixQuery(new Term(field, term)), BooleanClause.Occur.SHOULD)
+                .build();
+    }
+
+    public record SearchPage(List<UUID> ids, long total, boolean totalExact) {
+    }
+}
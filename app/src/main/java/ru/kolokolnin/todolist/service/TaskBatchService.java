@@ -0,0 +1,16 @@
+package ru.kolokolnin.todolist.service;
+
+import ru.kolokolnin.todolist.dto.TaskBatchResponse;
+import ru.kolokolnin.todolist.dto.TaskRequest;
+import ru.kolokolnin.todolist.dto.TaskUpdateItem;
+import ru.kolokolnin.todolist.ingest.AcceptedTask;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface TaskBatchService {
+    TaskBatchResponse createTasks(List<TaskRequest> taskRequests);
+    TaskBatchResponse updateTasks(List<TaskUpdateItem> items);
+    TaskBatchResponse deleteTasks(List<UUID> ids);
+    int insertAccepted(List<AcceptedTask> tasks);
+}
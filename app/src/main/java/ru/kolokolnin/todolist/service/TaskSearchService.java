@@ -0,0 +1,7 @@
+package ru.kolokolnin.todolist.service;
+
+import ru.kolokolnin.todolist.dto.TaskSearchResponse;
+
+public interface TaskSearchService {
+    TaskSearchResponse search(String query, int offset, int limit);
+}
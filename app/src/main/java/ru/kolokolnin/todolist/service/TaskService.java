@@ -0,0 +1,24 @@
+package ru.kolokolnin.todolist.service;
+
+import ru.kolokolnin.todolist.dto.TaskChangesResponse;
+import ru.kolokolnin.todolist.dto.TaskFilter;
+import ru.kolokolnin.todolist.dto.TaskPageResponse;
+import ru.kolokolnin.todolist.dto.TaskPatch;
+import ru.kolokolnin.todolist.dto.TaskRequest;
+import ru.kolokolnin.todolist.dto.TaskResponse;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public interface TaskService {
+    TaskResponse createTask(TaskRequest taskRequest);
+    TaskPageResponse getTasksPage(TaskFilter filter, String cursor, int limit);
+    TaskChangesResponse getChanges(String cursor, LocalDateTime since, int limit);
+    void exportTasks(Consumer<TaskResponse> consumer);
+    TaskResponse getTaskById(UUID id);
+    long getTaskVersion(UUID id);
+    TaskResponse updateTask(UUID id, TaskRequest taskRequest, Long expectedVersion);
+    TaskResponse patchTask(UUID id, TaskPatch patch, Long expectedVersion);
+    void deleteTask(UUID id, Long expectedVersion);
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package ru.kolokolnin.todolist.service;
+
+import ru.kolokolnin.todolist.dto.TaskStatsResponse;
+
+public interface TaskStatsService {
+    TaskStatsResponse getStats(int days);
+}
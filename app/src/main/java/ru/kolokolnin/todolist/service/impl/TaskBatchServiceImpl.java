@@ -0,0 +1,336 @@
+package ru.kolokolnin.todolist.service.impl;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.kolokolnin.todolist.config.BatchProperties;
+import ru.kolokolnin.todolist.dto.TaskBatchItemResult;
+import ru.kolokolnin.todolist.dto.TaskBatchResponse;
+import ru.kolokolnin.todolist.dto.TaskRequest;
+import ru.kolokolnin.todolist.dto.TaskResponse;
+import ru.kolokolnin.todolist.dto.TaskUpdateItem;
+import ru.kolokolnin.todolist.entity.TaskEntity;
+import ru.kolokolnin.todolist.entity.TaskTombstoneEntity;
+import ru.kolokolnin.todolist.event.TaskChangedEvent;
+import ru.kolokolnin.todolist.exception.ValidationException;
+import ru.kolokolnin.todolist.ingest.AcceptedTask;
+import ru.kolokolnin.todolist.mapper.TaskMapper;
+import ru.kolokolnin.todolist.repo.TaskRepository;
+import ru.kolokolnin.todolist.repo.TaskTombstoneRepository;
+import ru.kolokolnin.todolist.service.TaskBatchService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskBatchServiceImpl implements TaskBatchService {
+
+    private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository tombstoneRepository;
+    private final TaskMapper taskMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final BatchProperties batchProperties;
+
+    @Override
+    public TaskBatchResponse createTasks(List<TaskRequest> taskRequests) {
+        log.debug("Creating {} tasks in batch", taskRequests.size());
+        checkBatchSize(taskRequests.size());
+
+        TaskBatchItemResult[] results = new TaskBatchItemResult[taskRequests.size()];
+        List<Indexed<TaskRequest>> valid = new ArrayList<>(taskRequests.size());
+        for (int i = 0; i < taskRequests.size(); i++) {
+            TaskRequest taskRequest = taskRequests.get(i);
+            String violation = validate(taskRequest);
+            if (violation != null) {
+                results[i] = invalid(i, null, violation);
+            } else {
+                valid.add(new Indexed<>(i, taskRequest));
+            }
+        }
+
+        inChunks(valid, chunk -> createChunk(chunk, results));
+        return toResponse(results);
+    }
+
+    @Override
+    public TaskBatchResponse updateTasks(List<TaskUpdateItem> items) {
+        log.debug("Updating {} tasks in batch", items.size());
+        checkBatchSize(items.size());
+
+        TaskBatchItemResult[] results = new TaskBatchItemResult[items.size()];
+        List<Indexed<TaskUpdateItem>> valid = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            TaskUpdateItem item = items.get(i);
+            if (item == null || item.id() == null) {
+                results[i] = invalid(i, null, "id: must not be null");
+                continue;
+            }
+            String violation = validate(item.task());
+            if (violation != null) {
+                results[i] = invalid(i, item.id(), violation);
+            } else {
+                valid.add(new Indexed<>(i, item));
+            }
+        }
+
+        inChunks(valid, chunk -> updateChunk(chunk, results));
+        return toResponse(results);
+    }
+
+    @Override
+    public TaskBatchResponse deleteTasks(List<UUID> ids) {
+        log.debug("Deleting {} tasks in batch", ids.size());
+        checkBatchSize(ids.size());
+
+        TaskBatchItemResult[] results = new TaskBatchItemResult[ids.size()];
+        List<Indexed<UUID>> valid = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            if (ids.get(i) == null) {
+                results[i] = invalid(i, null, "id: must not be null");
+            } else {
+                valid.add(new Indexed<>(i, ids.get(i)));
+            }
+        }
+
+        inChunks(valid, chunk -> deleteChunk(chunk, results));
+        return toResponse(results);
+    }
+
+    @Override
+    public int insertAccepted(List<AcceptedTask> tasks) {
+        log.debug("Inserting {} accepted tasks", tasks.size());
+        return transactionTemplate.execute(status -> {
+            // Ids already present were written before a crash and are now replayed from the journal;
+            // tombstoned ids were written and then deleted, so replaying them would resurrect the task
+            List<UUID> ids = tasks.stream().map(AcceptedTask::id).toList();
+            Set<UUID> skipped = new HashSet<>(taskRepository.findExistingIds(ids));
+            skipped.addAll(tombstoneRepository.findDeletedIds(ids));
+            List<TaskEntity> entities = new ArrayList<>(tasks.size());
+            for (AcceptedTask task : tasks) {
+                if (skipped.contains(task.id())) {
+                    continue;
+                }
+                TaskEntity taskEntity = taskMapper.toEntity(task.task());
+                taskEntity.setId(task.id());
+                if (taskEntity.getCompleted() == null) {
+                    taskEntity.setCompleted(false);
+                }
+                taskEntity.setCreatedAt(task.acceptedAt());
+                taskEntity.setUpdatedAt(task.acceptedAt());
+                entities.add(taskEntity);
+            }
+            taskRepository.saveAll(entities);
+            flushAndDetach(entities, TaskChangedEvent::created);
+            return entities.size();
+        });
+    }
+
+    private void createChunk(List<Indexed<TaskRequest>> chunk, TaskBatchItemResult[] results) {
+        try {
+            List<TaskResponse> created = transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                List<TaskEntity> entities = new ArrayList<>(chunk.size());
+                for (Indexed<TaskRequest> item : chunk) {
+                    TaskEntity taskEntity = taskMapper.toEntity(item.value());
+                    taskEntity.setId(UUID.randomUUID());
+                    if (taskEntity.getCompleted() == null) {
+                        taskEntity.setCompleted(false);
+                    }
+                    taskEntity.setCreatedAt(now);
+                    taskEntity.setUpdatedAt(now);
+                    entities.add(taskEntity);
+                }
+                taskRepository.saveAll(entities);
+                return flushAndDetach(entities, TaskChangedEvent::created);
+            });
+
+            for (int i = 0; i < chunk.size(); i++) {
+                TaskResponse task = created.get(i);
+                results[chunk.get(i).index()] = TaskBatchItemResult.builder()
+                        .index(chunk.get(i).index())
+                        .id(task.id())
+                        .status(201)
+                        .task(task)
+                        .build();
+            }
+        } catch (DataAccessException | TransactionException e) {
+            log.error("Batch create chunk of {} tasks failed", chunk.size(), e);
+            chunk.forEach(item -> results[item.index()] = chunkFailed(item.index(), null));
+        }
+    }
+
+    private void updateChunk(List<Indexed<TaskUpdateItem>> chunk, TaskBatchItemResult[] results) {
+        try {
+            Map<Integer, TaskResponse> updated = transactionTemplate.execute(status -> {
+                List<UUID> ids = chunk.stream().map(item -> item.value().id()).toList();
+                Map<UUID, TaskEntity> existing = taskRepository.findAllById(ids).stream()
+                        .collect(Collectors.toMap(TaskEntity::getId, Function.identity()));
+
+                LocalDateTime now = LocalDateTime.now();
+                List<Integer> indexes = new ArrayList<>(chunk.size());
+                List<TaskEntity> touched = new ArrayList<>(chunk.size());
+                Map<UUID, TaskResponse> previous = new HashMap<>();
+                for (Indexed<TaskUpdateItem> item : chunk) {
+                    TaskEntity taskEntity = existing.get(item.value().id());
+                    if (taskEntity == null) {
+                        continue;
+                    }
+                    previous.putIfAbsent(taskEntity.getId(), taskMapper.toResponse(taskEntity));
+                    TaskRequest taskRequest = item.value().task();
+                    Boolean completed = taskEntity.getCompleted();
+                    taskMapper.updateEntityFromRequest(taskRequest, taskEntity);
+                    taskEntity.setCompleted(taskRequest.completed() != null ? taskRequest.completed() : completed);
+                    taskEntity.setUpdatedAt(now);
+                    indexes.add(item.index());
+                    touched.add(taskEntity);
+                }
+
+                List<TaskResponse> responses = flushAndDetach(touched,
+                        task -> TaskChangedEvent.updated(previous.get(task.id()), task));
+                Map<Integer, TaskResponse> byIndex = new HashMap<>();
+                for (int i = 0; i < indexes.size(); i++) {
+                    byIndex.put(indexes.get(i), responses.get(i));
+                }
+                return byIndex;
+            });
+
+            for (Indexed<TaskUpdateItem> item : chunk) {
+                TaskResponse task = updated.get(item.index());
+                results[item.index()] = task != null
+                        ? TaskBatchItemResult.builder().index(item.index()).id(task.id()).status(200).task(task).build()
+                        : notFound(item.index(), item.value().id());
+            }
+        } catch (DataAccessException | TransactionException e) {
+            log.error("Batch update chunk of {} tasks failed", chunk.size(), e);
+            chunk.forEach(item -> results[item.index()] = chunkFailed(item.index(), item.value().id()));
+        }
+    }
+
+    private void deleteChunk(List<Indexed<UUID>> chunk, TaskBatchItemResult[] results) {
+        try {
+            Set<UUID> deleted = transactionTemplate.execute(status -> {
+                // Rows are locked while read, so the deleted events carry exactly the state that was removed
+                List<TaskEntity> existing =
+                        taskRepository.findForUpdateByIdIn(chunk.stream().map(Indexed::value).toList());
+                Set<UUID> ids = existing.stream().map(TaskEntity::getId).collect(Collectors.toSet());
+                if (!ids.isEmpty()) {
+                    taskRepository.deleteAllByIdInBatch(ids);
+                    LocalDateTime now = LocalDateTime.now();
+                    tombstoneRepository.saveAll(ids.stream()
+                            .map(id -> new TaskTombstoneEntity(id, now))
+                            .toList());
+                    existing.forEach(task ->
+                            eventPublisher.publishEvent(TaskChangedEvent.deleted(taskMapper.toResponse(task))));
+                }
+                return ids;
+            });
+
+            for (Indexed<UUID> item : chunk) {
+                results[item.index()] = deleted.contains(item.value())
+                        ? TaskBatchItemResult.builder().index(item.index()).id(item.value()).status(204).build()
+                        : notFound(item.index(), item.value());
+            }
+        } catch (DataAccessException | TransactionException e) {
+            log.error("Batch delete chunk of {} tasks failed", chunk.size(), e);
+            chunk.forEach(item -> results[item.index()] = chunkFailed(item.index(), item.value()));
+        }
+    }
+
+    private List<TaskResponse> flushAndDetach(List<TaskEntity> entities,
+                                              Function<TaskResponse, TaskChangedEvent> event) {
+        entityManager.flush();
+        List<TaskResponse> responses = new ArrayList<>(entities.size());
+        for (TaskEntity taskEntity : entities) {
+            TaskResponse response = taskMapper.toResponse(taskEntity);
+            eventPublisher.publishEvent(event.apply(response));
+            responses.add(response);
+        }
+        entityManager.clear();
+        return responses;
+    }
+
+    private <T> void inChunks(List<T> items, Consumer<List<T>> action) {
+        int chunkSize = batchProperties.chunkSize();
+        for (int from = 0; from < items.size(); from += chunkSize) {
+            action.accept(items.subList(from, Math.min(from + chunkSize, items.size())));
+        }
+    }
+
+    private void checkBatchSize(int size) {
+        if (size > batchProperties.maxItems()) {
+            throw new ValidationException("Batch must not exceed " + batchProperties.maxItems() + " items");
+        }
+    }
+
+    private String validate(TaskRequest taskRequest) {
+        if (taskRequest == null) {
+            return "task: must not be null";
+        }
+        Set<ConstraintViolation<TaskRequest>> violations = validator.validate(taskRequest);
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static TaskBatchResponse toResponse(TaskBatchItemResult[] results) {
+        int failed = (int) Arrays.stream(results).filter(result -> result.errorCode() != null).count();
+        return new TaskBatchResponse(results.length - failed, failed, Arrays.asList(results));
+    }
+
+    private static TaskBatchItemResult invalid(int index, UUID id, String message) {
+        return TaskBatchItemResult.builder()
+                .index(index)
+                .id(id)
+                .status(400)
+                .errorCode("VALIDATION_ERROR")
+                .message(message)
+                .build();
+    }
+
+    private static TaskBatchItemResult notFound(int index, UUID id) {
+        return TaskBatchItemResult.builder()
+                .index(index)
+                .id(id)
+                .status(404)
+                .errorCode("TASK_NOT_FOUND")
+                .message("Task not found with ID: " + id)
+                .build();
+    }
+
+    private static TaskBatchItemResult chunkFailed(int index, UUID id) {
+        return TaskBatchItemResult.builder()
+                .index(index)
+                .id(id)
+                .status(500)
+                .errorCode("BATCH_CHUNK_FAILED")
+                .message("Chunk containing this item could not be persisted")
+                .build();
+    }
+
+    private record Indexed<T>(int index, T value) {
+    }
+}
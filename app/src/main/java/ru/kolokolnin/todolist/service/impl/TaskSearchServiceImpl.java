@@ -0,0 +1,65 @@
+package ru.kolokolnin.todolist.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.kolokolnin.todolist.config.SearchProperties;
+import ru.kolokolnin.todolist.dto.TaskResponse;
+import ru.kolokolnin.todolist.dto.TaskSearchResponse;
+import ru.kolokolnin.todolist.entity.TaskEntity;
+import ru.kolokolnin.todolist.exception.ValidationException;
+import ru.kolokolnin.todolist.mapper.TaskMapper;
+import ru.kolokolnin.todolist.repo.TaskRepository;
+import ru.kolokolnin.todolist.search.TaskSearchIndex;
+import ru.kolokolnin.todolist.service.TaskSearchService;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TaskSearchServiceImpl implements TaskSearchService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+    private final SearchProperties searchProperties;
+
+    @Override
+    public TaskSearchResponse search(String query, int offset, int limit) {
+        log.debug("Searching tasks with offset: {}, limit: {}", offset, limit);
+
+        if (query == null || query.isBlank()) {
+            throw new ValidationException("q: must not be blank");
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ValidationException("limit: must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (offset < 0 || offset + limit > searchProperties.maxResultWindow()) {
+            throw new ValidationException("offset: must be non-negative and offset + limit must not exceed "
+                    + searchProperties.maxResultWindow());
+        }
+
+        TaskSearchIndex.SearchPage page = taskSearchIndex.search(query, offset, limit);
+        Map<UUID, TaskEntity> tasks = taskRepository.findAllById(page.ids()).stream()
+                .collect(Collectors.toMap(TaskEntity::getId, Function.identity()));
+        List<TaskResponse> items = page.ids().stream()
+                .map(tasks::get)
+                .filter(Objects::nonNull)
+                .map(taskMapper::toResponse)
+                .toList();
+
+        log.debug("Found {} of {} matching tasks", items.size(), page.total());
+        return new TaskSearchResponse(items, page.total(), page.totalExact(),
+                offset + page.ids().size() < page.total());
+    }
+}
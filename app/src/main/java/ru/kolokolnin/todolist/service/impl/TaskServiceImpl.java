@@ -0,0 +1,357 @@
+package ru.kolokolnin.todolist.service.impl;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import ru.kolokolnin.todolist.cache.TaskCache;
+import ru.kolokolnin.todolist.cache.TaskIdFilter;
+import ru.kolokolnin.todolist.config.SyncProperties;
+import ru.kolokolnin.todolist.dto.KeysetCursor;
+import ru.kolokolnin.todolist.dto.TaskChangesResponse;
+import ru.kolokolnin.todolist.dto.TaskFilter;
+import ru.kolokolnin.todolist.dto.TaskPageResponse;
+import ru.kolokolnin.todolist.dto.TaskPatch;
+import ru.kolokolnin.todolist.dto.TaskRequest;
+import ru.kolokolnin.todolist.dto.TaskResponse;
+import ru.kolokolnin.todolist.dto.TaskTombstoneResponse;
+import ru.kolokolnin.todolist.entity.TaskEntity;
+import ru.kolokolnin.todolist.entity.TaskTombstoneEntity;
+import ru.kolokolnin.todolist.event.TaskChangedEvent;
+import ru.kolokolnin.todolist.exception.PreconditionFailedException;
+import ru.kolokolnin.todolist.exception.SyncCursorExpiredException;
+import ru.kolokolnin.todolist.exception.TaskNotFoundException;
+import ru.kolokolnin.todolist.exception.ValidationException;
+import ru.kolokolnin.todolist.mapper.TaskMapper;
+import ru.kolokolnin.todolist.repo.TaskRepository;
+import ru.kolokolnin.todolist.repo.TaskSpecifications;
+import ru.kolokolnin.todolist.repo.TaskSyncStateRepository;
+import ru.kolokolnin.todolist.repo.TaskTombstoneRepository;
+import ru.kolokolnin.todolist.service.TaskService;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TaskServiceImpl implements TaskService {
+
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final Sort KEYSET_ORDER = Sort.by(Sort.Order.asc("createdAt"), Sort.Order.asc("id"));
+    private static final KeysetCursor SYNC_START = new KeysetCursor(LocalDateTime.of(1970, 1, 1, 0, 0), new UUID(0L, 0L));
+    private static final UUID MAX_UUID = new UUID(-1L, -1L);
+
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskCache taskCache;
+    private final TaskTombstoneRepository tombstoneRepository;
+    private final SyncProperties syncProperties;
+    private final TaskIdFilter taskIdFilter;
+    private final TaskSyncStateRepository syncStateRepository;
+    private final Validator validator;
+
+    @Override
+    @Transactional
+    public TaskResponse createTask(TaskRequest taskRequest) {
+        log.debug("Creating new task with title: {}", taskRequest.title());
+
+        TaskEntity taskEntity = taskMapper.toEntity(taskRequest);
+        taskEntity.setId(UUID.randomUUID());
+        LocalDateTime now = LocalDateTime.now();
+        taskEntity.setCreatedAt(now);
+        taskEntity.setUpdatedAt(now);
+
+        TaskEntity savedEntity = taskRepository.save(taskEntity);
+        TaskResponse response = taskMapper.toResponse(savedEntity);
+        eventPublisher.publishEvent(TaskChangedEvent.created(response));
+
+        log.debug("Task created successfully with ID: {}", savedEntity.getId());
+        return response;
+    }
+
+    @Override
+    public TaskPageResponse getTasksPage(TaskFilter filter, String cursor, int limit) {
+        log.debug("Retrieving tasks page with limit: {}", limit);
+
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ValidationException("limit: must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        Specification<TaskEntity> specification = TaskSpecifications.matching(filter);
+        if (cursor != null && !cursor.isBlank()) {
+            specification = specification.and(TaskSpecifications.createdAfter(KeysetCursor.decode(cursor)));
+        }
+
+        List<TaskEntity> tasks = taskRepository.findBy(specification,
+                query -> query.sortBy(KEYSET_ORDER).limit(limit + 1).all());
+
+        boolean hasMore = tasks.size() > limit;
+        List<TaskEntity> page = hasMore ? tasks.subList(0, limit) : tasks;
+        String nextCursor = null;
+        if (hasMore) {
+            TaskEntity last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        log.debug("Found {} tasks, hasMore: {}", page.size(), hasMore);
+        return new TaskPageResponse(taskMapper.toResponseList(page), nextCursor, hasMore);
+    }
+
+    @Override
+    public TaskChangesResponse getChanges(String cursor, LocalDateTime since, int limit) {
+        log.debug("Retrieving task changes with limit: {}", limit);
+
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ValidationException("limit: must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        KeysetCursor from;
+        if (cursor != null && !cursor.isBlank()) {
+            from = KeysetCursor.decode(cursor);
+        } else if (since != null) {
+            from = new KeysetCursor(since, MAX_UUID);
+        } else {
+            from = SYNC_START;
+        }
+
+        // Changes younger than the settle time may still be hidden behind transactions that have not committed yet
+        LocalDateTime until = LocalDateTime.now().minus(syncProperties.settleTime());
+        Pageable window = PageRequest.of(0, limit + 1);
+        List<TaskEntity> tasks = taskRepository.findChangedAfter(from.timestamp(), from.id(), until, window);
+        List<TaskTombstoneEntity> tombstones =
+                tombstoneRepository.findDeletedAfter(from.timestamp(), from.id(), until, window);
+        // Read after the tombstones: a purge that removed any of them has committed its watermark as well
+        if (from != SYNC_START) {
+            syncStateRepository.findTombstonesPurgedBefore()
+                    .filter(purgedBefore -> from.timestamp().isBefore(purgedBefore))
+                    .ifPresent(purgedBefore -> {
+                        throw new SyncCursorExpiredException(purgedBefore);
+                    });
+        }
+
+        List<TaskResponse> updated = new ArrayList<>();
+        List<TaskTombstoneResponse> deleted = new ArrayList<>();
+        KeysetCursor last = from;
+        int t = 0;
+        int d = 0;
+        while (updated.size() + deleted.size() < limit && (t < tasks.size() || d < tombstones.size())) {
+            boolean takeTask = d == tombstones.size() || (t < tasks.size() && compare(
+                    tasks.get(t).getUpdatedAt(), tasks.get(t).getId(),
+                    tombstones.get(d).getDeletedAt(), tombstones.get(d).getTaskId()) < 0);
+            if (takeTask) {
+                TaskEntity task = tasks.get(t++);
+                updated.add(taskMapper.toResponse(task));
+                last = new KeysetCursor(task.getUpdatedAt(), task.getId());
+            } else {
+                TaskTombstoneEntity tombstone = tombstones.get(d++);
+                deleted.add(new TaskTombstoneResponse(tombstone.getTaskId(), tombstone.getDeletedAt()));
+                last = new KeysetCursor(tombstone.getDeletedAt(), tombstone.getTaskId());
+            }
+        }
+        boolean hasMore = t < tasks.size() || d < tombstones.size();
+
+        log.debug("Found {} updated and {} deleted tasks, hasMore: {}", updated.size(), deleted.size(), hasMore);
+        return new TaskChangesResponse(updated, deleted, last.encode(), hasMore);
+    }
+
+    @Override
+    public void exportTasks(Consumer<TaskResponse> consumer) {
+        log.debug("Exporting all tasks");
+        try (Stream<TaskEntity> tasks = taskRepository.streamAll()) {
+            tasks.forEach(task -> {
+                consumer.accept(taskMapper.toResponse(task));
+                entityManager.detach(task);
+            });
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public TaskResponse getTaskById(UUID id) {
+        log.debug("Retrieving task by ID: {}", id);
+        return taskCache.get(id).orElseGet(() -> {
+            TaskEntity taskEntity = findTaskById(id);
+            TaskResponse response = taskMapper.toResponse(taskEntity);
+            taskCache.put(response);
+            return response;
+        });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public long getTaskVersion(UUID id) {
+        log.debug("Retrieving version of task with ID: {}", id);
+        return taskCache.get(id)
+                .map(TaskResponse::version)
+                .or(() -> taskIdFilter.isDefinitelyAbsent(id)
+                        ? Optional.empty()
+                        : taskRepository.findVersionById(id))
+                .orElseThrow(() -> new TaskNotFoundException(id));
+    }
+
+    @Override
+    @Transactional
+    public TaskResponse updateTask(UUID id, TaskRequest taskRequest, Long expectedVersion) {
+        log.debug("Updating task with ID: {}", id);
+        rejectUnknownId(id);
+
+        // The cached snapshot of the expected version is exactly the row the conditional UPDATE replaces
+        Optional<TaskResponse> cached = expectedVersion == null
+                ? Optional.empty()
+                : taskCache.get(id).filter(task -> task.version() == expectedVersion.longValue());
+        if (cached.isPresent()) {
+            TaskResponse response = updateTaskIfVersionMatches(cached.get(), taskRequest);
+            eventPublisher.publishEvent(TaskChangedEvent.updated(cached.get(), response));
+            log.debug("Task updated successfully with ID: {}", id);
+            return response;
+        }
+
+        TaskEntity taskEntity = findTaskById(id);
+        if (expectedVersion != null && !expectedVersion.equals(taskEntity.getVersion())) {
+            throw new PreconditionFailedException(id);
+        }
+        TaskResponse previous = taskMapper.toResponse(taskEntity);
+        taskMapper.updateEntityFromRequest(taskRequest, taskEntity);
+
+        if (taskRequest.completed() != null) {
+            taskEntity.setCompleted(taskRequest.completed());
+        }
+
+        taskEntity.setUpdatedAt(LocalDateTime.now());
+        entityManager.flush();
+        TaskResponse response = taskMapper.toResponse(taskEntity);
+
+        eventPublisher.publishEvent(TaskChangedEvent.updated(previous, response));
+        log.debug("Task updated successfully with ID: {}", id);
+
+        return response;
+    }
+
+    @Override
+    @Transactional
+    public TaskResponse patchTask(UUID id, TaskPatch patch, Long expectedVersion) {
+        log.debug("Patching task with ID: {}", id);
+
+        TaskEntity taskEntity = findTaskById(id);
+        if (expectedVersion != null && !expectedVersion.equals(taskEntity.getVersion())) {
+            throw new PreconditionFailedException(id);
+        }
+
+        TaskResponse previous = taskMapper.toResponse(taskEntity);
+        TaskRequest current = taskMapper.toRequest(taskEntity);
+        TaskRequest merged = patch.applyTo(current);
+        validate(merged);
+        if (merged.equals(current)) {
+            return previous;
+        }
+
+        // Only fields that actually change become dirty, so the dynamic UPDATE carries just those columns
+        taskMapper.updateEntityFromRequest(merged, taskEntity);
+
+        taskEntity.setUpdatedAt(LocalDateTime.now());
+        entityManager.flush();
+
+        TaskResponse response = taskMapper.toResponse(taskEntity);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(previous, response));
+        log.debug("Task patched successfully with ID: {}", id);
+
+        return response;
+    }
+
+    @Override
+    @Transactional
+    public void deleteTask(UUID id, Long expectedVersion) {
+        log.debug("Deleting task with ID: {}", id);
+        rejectUnknownId(id);
+
+        // A cached snapshot is deleted by its version, so it is known to be the row removed; otherwise the
+        // row is locked and read first, and listeners still get the exact state that was deleted
+        Optional<TaskResponse> cached = taskCache.get(id)
+                .filter(task -> expectedVersion == null || task.version() == expectedVersion.longValue());
+        TaskResponse previous;
+        if (cached.isPresent() && taskRepository.deleteByIdAndVersion(id, cached.get().version()) == 1) {
+            previous = cached.get();
+        } else {
+            TaskEntity taskEntity = taskRepository.findForUpdateById(id)
+                    .orElseThrow(() -> new TaskNotFoundException(id));
+            if (expectedVersion != null && !expectedVersion.equals(taskEntity.getVersion())) {
+                throw new PreconditionFailedException(id);
+            }
+            previous = taskMapper.toResponse(taskEntity);
+            taskRepository.deleteTaskById(id);
+        }
+
+        tombstoneRepository.save(new TaskTombstoneEntity(id, LocalDateTime.now()));
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(previous));
+        log.debug("Task deleted successfully with ID: {}", id);
+    }
+
+    // Same order as the database applies to UUID columns: unsigned, most significant half first
+    private static int compare(LocalDateTime leftTime, UUID leftId, LocalDateTime rightTime, UUID rightId) {
+        int byTime = leftTime.compareTo(rightTime);
+        if (byTime != 0) {
+            return byTime;
+        }
+        int byHigh = Long.compareUnsigned(leftId.getMostSignificantBits(), rightId.getMostSignificantBits());
+        return byHigh != 0
+                ? byHigh
+                : Long.compareUnsigned(leftId.getLeastSignificantBits(), rightId.getLeastSignificantBits());
+    }
+
+    private TaskResponse updateTaskIfVersionMatches(TaskResponse cached, TaskRequest taskRequest) {
+        UUID id = cached.id();
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        int updated = taskRepository.updateByIdAndVersion(id, cached.version(), taskRequest.title(),
+                taskRequest.description(), taskRequest.completed(), now);
+        if (updated == 0) {
+            throw taskRepository.existsById(id)
+                    ? new PreconditionFailedException(id)
+                    : new TaskNotFoundException(id);
+        }
+        // Mirrors the UPDATE statement, so the new state is known without reading the row back
+        boolean completed = taskRequest.completed() != null ? taskRequest.completed() : cached.completed();
+        LocalDateTime completedAt = !completed ? null : cached.completedAt() != null ? cached.completedAt() : now;
+        return new TaskResponse(id, taskRequest.title(), taskRequest.description(), completed,
+                cached.createdAt(), now, completedAt, cached.version() + 1);
+    }
+
+    private void validate(TaskRequest taskRequest) {
+        validator.validate(taskRequest).stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .findFirst()
+                .ifPresent(message -> {
+                    throw new ValidationException(message);
+                });
+    }
+
+    private TaskEntity findTaskById(UUID id) {
+        rejectUnknownId(id);
+        return taskRepository.findById(id)
+                .orElseThrow(() -> new TaskNotFoundException(id));
+    }
+
+    private void rejectUnknownId(UUID id) {
+        if (taskIdFilter.isDefinitelyAbsent(id)) {
+            throw new TaskNotFoundException(id);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package ru.kolokolnin.todolist.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.kolokolnin.todolist.config.StatsProperties;
+import ru.kolokolnin.todolist.dto.TaskResponse;
+import ru.kolokolnin.todolist.dto.TaskStatsBucket;
+import ru.kolokolnin.todolist.dto.TaskStatsResponse;
+import ru.kolokolnin.todolist.event.TaskChangedEvent;
+import ru.kolokolnin.todolist.exception.ValidationException;
+import ru.kolokolnin.todolist.repo.DailyCount;
+import ru.kolokolnin.todolist.repo.TaskRepository;
+import ru.kolokolnin.todolist.service.TaskStatsService;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Counters are aggregated from the database once at startup and then kept current from committed change
+// events, which carry the state each change replaced. A stats request reads them in O(days) without touching
+// the database; writes that bypass the service layer (manual SQL) are picked up on the next start.
+@Slf4j
+@Service
+public class TaskStatsServiceImpl implements TaskStatsService {
+
+    private final TaskRepository taskRepository;
+    private final StatsProperties statsProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final TreeMap<LocalDate, Long> createdPerDay = new TreeMap<>();
+    private final TreeMap<LocalDate, Long> completedPerDay = new TreeMap<>();
+    private long total;
+    private long completed;
+    // Events committed before the startup scan finishes are held here and applied on top of its result
+    private List<TaskChangedEvent> pending = new ArrayList<>();
+
+    public TaskStatsServiceImpl(TaskRepository taskRepository, StatsProperties statsProperties,
+                                PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.statsProperties = statsProperties;
+        // Not read-only: the initial scan must see the primary; one snapshot keeps the four aggregates consistent
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.nanoTime();
+        synchronized (this) {
+            // Anything delivered so far committed before the scan starts and is already part of its result
+            pending = new ArrayList<>();
+        }
+        LocalDateTime from = oldestDay(LocalDate.now()).atStartOfDay();
+        Snapshot snapshot = transactionTemplate.execute(status -> new Snapshot(
+                taskRepository.count(),
+                taskRepository.countByCompleted(true),
+                taskRepository.countCreatedPerDay(from),
+                taskRepository.countCompletedPerDay(from)));
+
+        synchronized (this) {
+            total = snapshot.total();
+            completed = snapshot.completed();
+            createdPerDay.clear();
+            completedPerDay.clear();
+            snapshot.created().forEach(count -> createdPerDay.put(count.day(), count.count()));
+            snapshot.done().forEach(count -> completedPerDay.put(count.day(), count.count()));
+            pending.forEach(this::apply);
+            pending = null;
+        }
+        log.info("Task statistics counters built with {} tasks in {} ms", snapshot.total(),
+                (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    @TransactionalEventListener
+    public synchronized void onTaskChanged(TaskChangedEvent event) {
+        if (pending != null) {
+            pending.add(event);
+        } else {
+            apply(event);
+        }
+    }
+
+    @Override
+    public synchronized TaskStatsResponse getStats(int days) {
+        if (days < 1 || days > statsProperties.maxDays()) {
+            throw new ValidationException("days: must be between 1 and " + statsProperties.maxDays());
+        }
+
+        LocalDate from = LocalDate.now().minusDays(days - 1L);
+        List<TaskStatsBucket> daily = new ArrayList<>(days);
+        for (LocalDate day = from; daily.size() < days; day = day.plusDays(1)) {
+            daily.add(new TaskStatsBucket(day, createdPerDay.getOrDefault(day, 0L),
+                    completedPerDay.getOrDefault(day, 0L)));
+        }
+        return new TaskStatsResponse(total, completed, total - completed, daily, LocalDateTime.now());
+    }
+
+    private void apply(TaskChangedEvent event) {
+        LocalDate oldestDay = oldestDay(LocalDate.now());
+        createdPerDay.headMap(oldestDay).clear();
+        completedPerDay.headMap(oldestDay).clear();
+        count(event.previous(), -1, oldestDay);
+        count(event.task(), 1, oldestDay);
+    }
+
+    private void count(TaskResponse task, long delta, LocalDate oldestDay) {
+        if (task == null) {
+            return;
+        }
+        total += delta;
+        if (Boolean.TRUE.equals(task.completed())) {
+            completed += delta;
+        }
+        add(createdPerDay, task.createdAt(), delta, oldestDay);
+        add(completedPerDay, task.completedAt(), delta, oldestDay);
+    }
+
+    private static void add(Map<LocalDate, Long> perDay, LocalDateTime at, long delta, LocalDate oldestDay) {
+        if (at != null && !at.toLocalDate().isBefore(oldestDay)) {
+            perDay.merge(at.toLocalDate(), delta, Long::sum);
+        }
+    }
+
+    private LocalDate oldestDay(LocalDate today) {
+        return today.minusDays(statsProperties.maxDays() - 1L);
+    }
+
+    private record Snapshot(long total, long completed, List<DailyCount> created, List<DailyCount> done) {
+    }
+}
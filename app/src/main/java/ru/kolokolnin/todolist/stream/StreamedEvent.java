@@ -0,0 +1,18 @@
+package ru.kolokolnin.todolist.stream;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+
+record StreamedEvent(String id, String name, String data, Duration reconnectDelay) {
+
+    static final StreamedEvent HEARTBEAT = new StreamedEvent(null, null, null, null);
+
+    SseEmitter.SseEventBuilder toSse() {
+        if (this == HEARTBEAT) {
+            return SseEmitter.event().comment("keep-alive");
+        }
+        SseEmitter.SseEventBuilder builder = SseEmitter.event().id(id).name(name).data(data);
+        return reconnectDelay != null ? builder.reconnectTime(reconnectDelay.toMillis()) : builder;
+    }
+}
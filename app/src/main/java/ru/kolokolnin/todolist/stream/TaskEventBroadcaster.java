@@ -0,0 +1,189 @@
+package ru.kolokolnin.todolist.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ru.kolokolnin.todolist.config.EventStreamProperties;
+import ru.kolokolnin.todolist.dto.TaskEventResponse;
+import ru.kolokolnin.todolist.event.TaskChangedEvent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class TaskEventBroadcaster {
+
+    private static final String READY = "ready";
+    private static final String RESET = "reset";
+
+    private final EventStreamProperties properties;
+    private final ObjectMapper objectMapper;
+    // Event ids are "<bootId>:<sequence>", so an id from a previous process is never mistaken for a position in this one
+    private final String bootId = UUID.randomUUID().toString().substring(0, 8);
+    private final ArrayDeque<StreamedEvent> history = new ArrayDeque<>();
+    private final Set<TaskEventSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService dispatcher;
+    private final ScheduledExecutorService heartbeats;
+    private final Counter dropped;
+    private long sequence;
+
+    public TaskEventBroadcaster(EventStreamProperties properties, ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.dispatcher = Executors.newFixedThreadPool(properties.dispatchThreads(), daemonThreads("task-events-"));
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(daemonThreads("task-events-heartbeat-"));
+
+        long interval = properties.heartbeatInterval().toMillis();
+        heartbeats.scheduleAtFixedRate(this::sendHeartbeats, interval, interval, TimeUnit.MILLISECONDS);
+
+        Gauge.builder("todo.events.subscribers", subscribers, Set::size)
+                .description("Open task event stream subscriptions")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("todo.events.dropped")
+                .description("Subscribers disconnected because their buffer overflowed")
+                .register(meterRegistry);
+    }
+
+    public Optional<SseEmitter> subscribe(String lastEventId) {
+        if (subscribers.size() >= properties.maxSubscribers()) {
+            return Optional.empty();
+        }
+
+        SseEmitter emitter = new SseEmitter(properties.timeout().toMillis());
+        TaskEventSubscriber subscriber = new TaskEventSubscriber(emitter, properties.subscriberBufferSize(),
+                dispatcher, subscribers::remove);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        // Replay and registration share the publish lock, so no event falls between the backlog and the live feed
+        synchronized (this) {
+            if (!StringUtils.hasText(lastEventId)) {
+                subscriber.offer(control(READY));
+            } else {
+                List<StreamedEvent> missed = missedSince(lastEventId);
+                if (missed == null || missed.size() > properties.subscriberBufferSize()) {
+                    subscriber.offer(control(RESET));
+                } else {
+                    missed.forEach(subscriber::offer);
+                }
+            }
+            subscribers.add(subscriber);
+        }
+        return Optional.of(emitter);
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(TaskEventResponse.from(event));
+        } catch (JsonProcessingException e) {
+            log.error("Could not serialize task event {}", event.id(), e);
+            return;
+        }
+        String name = event.type().name().toLowerCase(Locale.ROOT);
+
+        synchronized (this) {
+            StreamedEvent streamed = new StreamedEvent(eventId(++sequence), name, data, null);
+            history.addLast(streamed);
+            if (history.size() > properties.replayBufferSize()) {
+                history.removeFirst();
+            }
+            for (TaskEventSubscriber subscriber : subscribers) {
+                if (!subscriber.offer(streamed)) {
+                    drop(subscriber);
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        heartbeats.shutdownNow();
+        subscribers.forEach(TaskEventSubscriber::close);
+        dispatcher.shutdown();
+        try {
+            dispatcher.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<StreamedEvent> missedSince(String lastEventId) {
+        int separator = lastEventId.indexOf(':');
+        if (separator < 0 || !lastEventId.substring(0, separator).equals(bootId)) {
+            return null;
+        }
+        long lastSequence;
+        try {
+            lastSequence = Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        long oldest = sequence - history.size() + 1;
+        if (lastSequence > sequence || lastSequence < oldest - 1) {
+            return null;
+        }
+
+        List<StreamedEvent> missed = new ArrayList<>((int) (sequence - lastSequence));
+        long position = oldest;
+        for (StreamedEvent event : history) {
+            if (position++ > lastSequence) {
+                missed.add(event);
+            }
+        }
+        return missed;
+    }
+
+    private StreamedEvent control(String name) {
+        String id = eventId(sequence);
+        return new StreamedEvent(id, name, id, properties.reconnectDelay());
+    }
+
+    private String eventId(long position) {
+        return bootId + ":" + position;
+    }
+
+    private void drop(TaskEventSubscriber subscriber) {
+        subscribers.remove(subscriber);
+        subscriber.close();
+        dropped.increment();
+        log.debug("Dropped slow event stream subscriber");
+    }
+
+    private void sendHeartbeats() {
+        try {
+            subscribers.forEach(TaskEventSubscriber::heartbeat);
+        } catch (RuntimeException e) {
+            log.warn("Could not send event stream heartbeats", e);
+        }
+    }
+
+    private static CustomizableThreadFactory daemonThreads(String prefix) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(prefix);
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+}
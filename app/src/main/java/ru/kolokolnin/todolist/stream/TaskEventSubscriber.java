@@ -0,0 +1,91 @@
+package ru.kolokolnin.todolist.stream;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+// Writes happen on the shared dispatcher only while events are queued, so an idle subscriber holds no thread
+@Slf4j
+final class TaskEventSubscriber implements Runnable {
+
+    private final SseEmitter emitter;
+    private final BlockingQueue<StreamedEvent> queue;
+    private final Executor dispatcher;
+    private final Consumer<TaskEventSubscriber> onClosed;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private volatile boolean closing;
+    private volatile boolean closed;
+
+    TaskEventSubscriber(SseEmitter emitter, int bufferSize, Executor dispatcher,
+                        Consumer<TaskEventSubscriber> onClosed) {
+        this.emitter = emitter;
+        this.queue = new LinkedBlockingQueue<>(bufferSize);
+        this.dispatcher = dispatcher;
+        this.onClosed = onClosed;
+    }
+
+    boolean offer(StreamedEvent event) {
+        if (closing) {
+            return true;
+        }
+        boolean accepted = queue.offer(event);
+        schedule();
+        return accepted;
+    }
+
+    void heartbeat() {
+        if (queue.isEmpty()) {
+            offer(StreamedEvent.HEARTBEAT);
+        }
+    }
+
+    // Completion runs on the dispatcher: the emitter lock may be held by a write blocked on a slow socket
+    void close() {
+        closing = true;
+        schedule();
+    }
+
+    @Override
+    public void run() {
+        try {
+            StreamedEvent event;
+            while (!closing && (event = queue.poll()) != null) {
+                emitter.send(event.toSse());
+            }
+            if (closing && !closed) {
+                closed = true;
+                queue.clear();
+                emitter.complete();
+                onClosed.accept(this);
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Event stream subscriber disconnected: {}", e.getMessage());
+            closed = true;
+            queue.clear();
+            onClosed.accept(this);
+        } finally {
+            scheduled.set(false);
+        }
+        if (!closed && (closing || !queue.isEmpty())) {
+            schedule();
+        }
+    }
+
+    private void schedule() {
+        if (closed || !scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            dispatcher.execute(this);
+        } catch (RejectedExecutionException e) {
+            scheduled.set(false);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package ru.kolokolnin.todolist.sync;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.kolokolnin.todolist.config.SyncProperties;
+import ru.kolokolnin.todolist.entity.TaskSyncStateEntity;
+import ru.kolokolnin.todolist.repo.TaskSyncStateRepository;
+import ru.kolokolnin.todolist.repo.TaskTombstoneRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Tombstones only matter to clients whose sync cursor is older than the deletion; past the retention
+// window such clients are expected to resync from scratch, so older tombstones are dropped and the cutoff is
+// recorded for the changes feed to reject those cursors.
+@Slf4j
+@Component
+public class TaskTombstonePurger {
+
+    private final TaskTombstoneRepository tombstoneRepository;
+    private final TaskSyncStateRepository syncStateRepository;
+    private final Duration retention;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledExecutorService scheduler;
+
+    public TaskTombstonePurger(TaskTombstoneRepository tombstoneRepository,
+                               TaskSyncStateRepository syncStateRepository, SyncProperties properties,
+                               PlatformTransactionManager transactionManager) {
+        if (properties.tombstoneRetention().compareTo(properties.settleTime()) <= 0) {
+            throw new IllegalStateException("todo.sync.tombstone-retention must be longer than todo.sync.settle-time");
+        }
+        this.tombstoneRepository = tombstoneRepository;
+        this.syncStateRepository = syncStateRepository;
+        this.retention = properties.tombstoneRetention();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("task-tombstone-purge-");
+        threadFactory.setDaemon(true);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        long interval = properties.tombstonePurgeInterval().toMillis();
+        if (interval > 0) {
+            scheduler.scheduleWithFixedDelay(this::purgeSafely, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public int purge() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention).truncatedTo(ChronoUnit.MICROS);
+        Integer purged = transactionTemplate.execute(status -> {
+            // Committed together with the delete, so a reader missing a purged tombstone also sees the watermark
+            TaskSyncStateEntity state = syncStateRepository.findById(TaskSyncStateEntity.ID)
+                    .orElseGet(() -> new TaskSyncStateEntity(TaskSyncStateEntity.ID, cutoff));
+            if (state.getTombstonesPurgedBefore().isBefore(cutoff)) {
+                state.setTombstonesPurgedBefore(cutoff);
+            }
+            syncStateRepository.save(state);
+            return tombstoneRepository.deleteDeletedBefore(cutoff);
+        });
+        if (purged != null && purged > 0) {
+            log.info("Purged {} task tombstones deleted before {}", purged, cutoff);
+        }
+        return purged == null ? 0 : purged;
+    }
+
+    @PreDestroy
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void purgeSafely() {
+        try {
+            purge();
+        } catch (RuntimeException e) {
+            log.warn("Task tombstone purge failed", e);
+        }
+    }
+}
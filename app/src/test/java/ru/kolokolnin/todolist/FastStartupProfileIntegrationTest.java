@@ -0,0 +1,38 @@
+package ru.kolokolnin.todolist;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import ru.kolokolnin.todolist.dto.TaskRequest;
+import ru.kolokolnin.todolist.dto.TaskResponse;
+import ru.kolokolnin.todolist.service.TaskService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:fast-startup;DB_CLOSE_DELAY=-1")
+@ActiveProfiles({"test", "fast-startup"})
+@Transactional
+class FastStartupProfileIntegrationTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Test
+    void schemaScripts_ShouldMatchEntityMapping() {
+        TaskResponse created = taskService.createTask(new TaskRequest("Fast Task", null, true));
+
+        assertEquals("Fast Task", taskService.getTaskById(created.id()).title());
+    }
+
+    @Test
+    void applicationBeans_ShouldStayEager() {
+        assertFalse(beanFactory.getBeanDefinition("taskServiceImpl").isLazyInit());
+    }
+}
@@ -0,0 +1,29 @@
+package ru.kolokolnin.todolist;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import ru.kolokolnin.todolist.dto.TaskRequest;
+import ru.kolokolnin.todolist.dto.TaskResponse;
+import ru.kolokolnin.todolist.service.TaskService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "spring.datasource.url="
+        + "jdbc:h2:mem:migrations;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+@ActiveProfiles({"test", "persistent"})
+@Transactional
+class PersistentProfileIntegrationTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Test
+    void migrations_ShouldMatchEntityMapping() {
+        TaskResponse created = taskService.createTask(new TaskRequest("Persistent Task", null, false));
+
+        assertEquals("Persistent Task", taskService.getTaskById(created.id()).title());
+    }
+}
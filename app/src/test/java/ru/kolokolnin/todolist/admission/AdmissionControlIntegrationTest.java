@@ -0,0 +1,45 @@
+package ru.kolokolnin.todolist.admission;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "todo.admission.client-rate=0.01",
+        "todo.admission.client-burst=2",
+        "todo.admission.trust-client-id-header=true"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AdmissionControlIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void request_WhenClientExceedsBurst_ShouldBeRejectedWithRetryAfter() throws Exception {
+        // Given
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/v1/tasks/page").header("X-Client-Id", "burst-client"))
+                    .andExpect(status().isOk());
+        }
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/tasks/page").header("X-Client-Id", "burst-client"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(jsonPath("$.errorCode").value("TOO_MANY_REQUESTS"));
+
+        mockMvc.perform(get("/api/v1/tasks/page").header("X-Client-Id", "other-client"))
+                .andExpect(status().isOk());
+    }
+}
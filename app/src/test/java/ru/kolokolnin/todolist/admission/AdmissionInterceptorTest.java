@@ -0,0 +1,86 @@
+package ru.kolokolnin.todolist.admission;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import ru.kolokolnin.todolist.config.AdmissionProperties;
+import ru.kolokolnin.todolist.exception.TooManyRequestsException;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AdmissionInterceptorTest {
+
+    private final HandlerMethod handler = handler();
+
+    @Test
+    void preHandle_WhenClientIdHeaderIsNotTrusted_ShouldKeyOnRemoteAddress() {
+        // Given
+        AdmissionInterceptor interceptor = newInterceptor(false);
+        admit(interceptor, request("10.0.0.1", "first"));
+
+        // When & Then
+        assertThrows(TooManyRequestsException.class, () -> admit(interceptor, request("10.0.0.1", "second")));
+        assertDoesNotThrow(() -> admit(interceptor, request("10.0.0.2", "first")));
+    }
+
+    @Test
+    void preHandle_WhenClientIdHeaderIsTrusted_ShouldKeyOnHeader() {
+        // Given
+        AdmissionInterceptor interceptor = newInterceptor(true);
+        admit(interceptor, request("10.0.0.1", "first"));
+
+        // When & Then
+        assertDoesNotThrow(() -> admit(interceptor, request("10.0.0.1", "second")));
+        assertThrows(TooManyRequestsException.class, () -> admit(interceptor, request("10.0.0.2", "first")));
+    }
+
+    @Test
+    void preHandle_WhenAuthenticated_ShouldKeyOnPrincipal() {
+        // Given
+        AdmissionInterceptor interceptor = newInterceptor(true);
+        MockHttpServletRequest alice = request("10.0.0.1", "shared");
+        alice.setUserPrincipal(() -> "alice");
+        admit(interceptor, alice);
+
+        // When & Then
+        MockHttpServletRequest bob = request("10.0.0.1", "shared");
+        bob.setUserPrincipal(() -> "bob");
+        assertDoesNotThrow(() -> admit(interceptor, bob));
+        MockHttpServletRequest aliceAgain = request("10.0.0.3", "other");
+        aliceAgain.setUserPrincipal(() -> "alice");
+        assertThrows(TooManyRequestsException.class, () -> admit(interceptor, aliceAgain));
+    }
+
+    private void admit(AdmissionInterceptor interceptor, MockHttpServletRequest request) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, handler);
+        interceptor.afterCompletion(request, response, handler, null);
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String clientId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/tasks/page");
+        request.setRemoteAddr(remoteAddr);
+        request.addHeader("X-Client-Id", clientId);
+        return request;
+    }
+
+    private static AdmissionInterceptor newInterceptor(boolean trustClientIdHeader) {
+        AdmissionProperties properties = new AdmissionProperties(true, "X-Client-Id", trustClientIdHeader,
+                0.01, 1, 100, 10, 1000, 0.9, Duration.ofMillis(500), Duration.ofSeconds(10), 0.5,
+                Duration.ofSeconds(1));
+        return new AdmissionInterceptor(properties, new SimpleMeterRegistry());
+    }
+
+    private static HandlerMethod handler() {
+        try {
+            return new HandlerMethod(new Object(), Object.class.getMethod("toString"));
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
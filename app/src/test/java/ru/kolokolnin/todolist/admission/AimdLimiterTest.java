@@ -0,0 +1,63 @@
+package ru.kolokolnin.todolist.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AimdLimiterTest {
+
+    private static final long THRESHOLD = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void tryAcquire_ShouldRejectAboveLimitAndShare() {
+        // Given
+        AimdLimiter limiter = new AimdLimiter(4, 1, 10, 0.5, THRESHOLD);
+
+        // When & Then
+        assertTrue(limiter.tryAcquire(0.5));
+        assertTrue(limiter.tryAcquire(0.5));
+        assertFalse(limiter.tryAcquire(0.5));
+        assertTrue(limiter.tryAcquire(1.0));
+        assertTrue(limiter.tryAcquire(1.0));
+        assertFalse(limiter.tryAcquire(1.0));
+    }
+
+    @Test
+    void onComplete_WhenSlowOrFailed_ShouldBackOffToMinimum() {
+        // Given
+        AimdLimiter limiter = new AimdLimiter(8, 2, 10, 0.5, THRESHOLD);
+
+        // When
+        limiter.tryAcquire(1.0);
+        limiter.onComplete(THRESHOLD * 2, false);
+        limiter.tryAcquire(1.0);
+        limiter.onComplete(0, true);
+        limiter.tryAcquire(1.0);
+        limiter.onComplete(0, true);
+
+        // Then
+        assertEquals(2, limiter.limit());
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void onComplete_WhenFastAndLimitInUse_ShouldGrowUpToMaximum() {
+        // Given
+        AimdLimiter limiter = new AimdLimiter(2, 1, 3, 0.5, THRESHOLD);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire(1.0);
+            limiter.tryAcquire(1.0);
+            limiter.onComplete(0, false);
+            limiter.onComplete(0, false);
+        }
+
+        // Then
+        assertEquals(3, limiter.limit());
+    }
+}
@@ -0,0 +1,52 @@
+package ru.kolokolnin.todolist.cache;
+
+import org.junit.jupiter.api.Test;
+import ru.kolokolnin.todolist.config.TaskCacheProperties;
+import ru.kolokolnin.todolist.dto.TaskResponse;
+import ru.kolokolnin.todolist.event.TaskChangedEvent;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TaskCacheTest {
+
+    private final TaskCache taskCache = new TaskCache(new TaskCacheProperties(true, 100, Duration.ofMinutes(1)));
+
+    @Test
+    void put_WithOlderVersion_ShouldKeepNewerEntry() {
+        UUID taskId = UUID.randomUUID();
+        TaskResponse fresh = new TaskResponse(taskId, "Fresh", null, true, null, null, null, 2L);
+        TaskResponse stale = new TaskResponse(taskId, "Stale", null, false, null, null, null, 1L);
+
+        taskCache.put(fresh);
+        taskCache.put(stale);
+
+        assertEquals(Optional.of(fresh), taskCache.get(taskId));
+    }
+
+    @Test
+    void onTaskChanged_WhenDeleted_ShouldRejectLaterReadThrough() {
+        UUID taskId = UUID.randomUUID();
+        TaskResponse task = new TaskResponse(taskId, "Task", null, false, null, null, null, 0L);
+        taskCache.put(task);
+
+        taskCache.onTaskChanged(TaskChangedEvent.deleted(task));
+        taskCache.put(task);
+
+        assertEquals(Optional.empty(), taskCache.get(taskId));
+    }
+
+    @Test
+    void stats_ShouldCountHitsAndMisses() {
+        UUID taskId = UUID.randomUUID();
+        taskCache.get(taskId);
+        taskCache.put(new TaskResponse(taskId, "Task", null, false, null, null, null, 0L));
+        taskCache.get(taskId);
+
+        assertEquals(1, taskCache.stats().hitCount());
+        assertEquals(1, taskCache.stats().missCount());
+    }
+}
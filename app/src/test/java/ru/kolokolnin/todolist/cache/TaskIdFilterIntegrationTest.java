@@ -0,0 +1,63 @@
+package ru.kolokolnin.todolist.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import ru.kolokolnin.todolist.dto.TaskRequest;
+import ru.kolokolnin.todolist.dto.TaskResponse;
+import ru.kolokolnin.todolist.entity.TaskEntity;
+import ru.kolokolnin.todolist.exception.TaskNotFoundException;
+import ru.kolokolnin.todolist.repo.TaskRepository;
+import ru.kolokolnin.todolist.service.TaskService;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class TaskIdFilterIntegrationTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskIdFilter taskIdFilter;
+
+    @Test
+    void createThenRead_InOneTransaction_ShouldFindUnflushedTask() {
+        // Given
+        TaskResponse created = taskService.createTask(new TaskRequest("Same Transaction", null, false));
+
+        // When & Then
+        assertEquals("Same Transaction", taskService.getTaskById(created.id()).title());
+        assertEquals(created.version(), taskService.getTaskVersion(created.id()));
+    }
+
+    @Test
+    void persist_WithoutId_ShouldRegisterGeneratedId() {
+        // Given
+        TaskEntity entity = TaskEntity.builder().title("Generated Id").build();
+
+        // When
+        taskRepository.save(entity);
+
+        // Then
+        assertFalse(taskIdFilter.isDefinitelyAbsent(entity.getId()));
+    }
+
+    @Test
+    void getTaskById_WhenUnknown_ShouldReturnNotFound() {
+        UUID missingId = UUID.randomUUID();
+
+        assertThrows(TaskNotFoundException.class, () -> taskService.getTaskById(missingId));
+    }
+}
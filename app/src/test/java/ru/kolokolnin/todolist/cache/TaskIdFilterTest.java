@@ -0,0 +1,87 @@
+package ru.kolokolnin.todolist.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import ru.kolokolnin.todolist.config.IdFilterProperties;
+import ru.kolokolnin.todolist.repo.TaskRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TaskIdFilterTest {
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    @Test
+    void isDefinitelyAbsent_BeforeRebuild_ShouldFallThroughToDatabase() {
+        TaskIdFilter filter = filter(true);
+
+        assertFalse(filter.isDefinitelyAbsent(UUID.randomUUID()));
+    }
+
+    @Test
+    void isDefinitelyAbsent_ShouldNeverRejectLoadedOrAddedIds() {
+        // Given
+        List<UUID> existing = randomIds(5_000);
+        when(taskRepository.streamAllIds()).thenReturn(existing.stream());
+        TaskIdFilter filter = filter(true);
+        filter.rebuild();
+        UUID created = UUID.randomUUID();
+
+        // When
+        filter.add(created);
+
+        // Then
+        existing.forEach(id -> assertFalse(filter.isDefinitelyAbsent(id)));
+        assertFalse(filter.isDefinitelyAbsent(created));
+    }
+
+    @Test
+    void isDefinitelyAbsent_ShouldRejectMostUnknownIds() {
+        // Given
+        when(taskRepository.streamAllIds()).thenReturn(randomIds(10_000).stream());
+        TaskIdFilter filter = filter(true);
+        filter.rebuild();
+
+        // When
+        long rejected = randomIds(10_000).stream().filter(filter::isDefinitelyAbsent).count();
+
+        // Then: sized for a 1% false positive rate, leave room for randomness
+        assertTrue(rejected > 9_700, "rejected " + rejected);
+    }
+
+    @Test
+    void isDefinitelyAbsent_WhenDisabled_ShouldNeverReject() {
+        TaskIdFilter filter = filter(false);
+        filter.rebuild();
+
+        assertFalse(filter.isDefinitelyAbsent(UUID.randomUUID()));
+    }
+
+    private TaskIdFilter filter(boolean enabled) {
+        return new TaskIdFilter(new IdFilterProperties(enabled, 10_000, 0.01), taskRepository, transactionManager);
+    }
+
+    private static List<UUID> randomIds(int count) {
+        List<UUID> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        return ids;
+    }
+}
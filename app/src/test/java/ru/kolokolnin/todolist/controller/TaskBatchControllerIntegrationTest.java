@@ -0,0 +1,210 @@
+package ru.kolokolnin.todolist.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import ru.kolokolnin.todolist.config.WireFormatConfig;
+import ru.kolokolnin.todolist.dto.TaskRequest;
+import ru.kolokolnin.todolist.dto.TaskUpdateItem;
+import ru.kolokolnin.todolist.entity.TaskEntity;
+import ru.kolokolnin.todolist.repo.TaskRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class TaskBatchControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private UUID existingTaskId;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+
+        TaskEntity task = TaskEntity.builder()
+                .title("Existing Task")
+                .description("Existing Description")
+                .completed(false)
+                .build();
+
+        existingTaskId = taskRepository.save(task).getId();
+    }
+
+    @Test
+    void createTasks_ShouldReportResultPerItem() throws Exception {
+        // Given
+        List<TaskRequest> requests = List.of(
+                new TaskRequest("First", "First Description", false),
+                new TaskRequest("", "Blank title", false),
+                new TaskRequest("Third", null, true));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/tasks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[0].status").value(201))
+                .andExpect(jsonPath("$.results[0].task.title").value("First"))
+                .andExpect(jsonPath("$.results[1].status").value(400))
+                .andExpect(jsonPath("$.results[1].errorCode").value("VALIDATION_ERROR"))
+                .andExpect(jsonPath("$.results[2].status").value(201));
+
+        assertEquals(3, taskRepository.count());
+    }
+
+    @Test
+    void createTasks_WithCborArray_ShouldCreateEveryItem() throws Exception {
+        // Given
+        List<TaskRequest> requests = List.of(new TaskRequest("First", null, false), new TaskRequest("Second", null, true));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/tasks/batch")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .content(WireFormatConfig.cborObjectMapper().writeValueAsBytes(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.results[1].task.title").value("Second"));
+    }
+
+    @Test
+    void createTasks_WhenArrayExceedsMaxItems_ShouldRejectBeforeReadingTheRest() throws Exception {
+        // Given: one item over the test limit of 100, followed by a body that never finishes parsing
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i <= 100; i++) {
+            body.append(objectMapper.writeValueAsString(new TaskRequest("Task " + i, null, false))).append(',');
+        }
+        body.append("{not json");
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/tasks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body.toString()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("VALIDATION_ERROR"))
+                .andExpect(jsonPath("$.message").value("Batch must not exceed 100 items"));
+        assertEquals(1, taskRepository.count());
+    }
+
+    @Test
+    void deleteTasks_WhenBodyIsNotArray_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(delete("/api/v1/tasks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"id\": \"" + existingTaskId + "\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("VALIDATION_ERROR"));
+    }
+
+    @Test
+    void createTasksFromNdjson_ShouldCreateEveryLine() throws Exception {
+        // Given
+        String body = objectMapper.writeValueAsString(new TaskRequest("First", null, false)) + "\n"
+                + objectMapper.writeValueAsString(new TaskRequest("Second", null, true)) + "\n";
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/tasks/batch")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.results[1].task.title").value("Second"));
+    }
+
+    @Test
+    void createTasks_WithRepeatedIdempotencyKey_ShouldNotInsertAgain() throws Exception {
+        // Given
+        String key = UUID.randomUUID().toString();
+        List<TaskRequest> requests = List.of(new TaskRequest("First", null, false), new TaskRequest("Second", null, true));
+        mockMvc.perform(post("/api/v1/tasks/batch")
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk());
+        String ndjson = objectMapper.writeValueAsString(requests.get(0)) + "\n"
+                + objectMapper.writeValueAsString(requests.get(1)) + "\n";
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/tasks/batch")
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.succeeded").value(2));
+        assertEquals(3, taskRepository.count());
+    }
+
+    @Test
+    void createTasksFromNdjson_WhenMalformed_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/api/v1/tasks/batch")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"title\": \"First\"}\n{not json"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("VALIDATION_ERROR"));
+    }
+
+    @Test
+    void updateTasks_ShouldReportMissingTasks() throws Exception {
+        // Given
+        UUID missingId = UUID.fromString("11111111-1111-1111-1111-111111111111");
+        List<TaskUpdateItem> items = List.of(
+                new TaskUpdateItem(existingTaskId, new TaskRequest("Updated", "Updated Description", true)),
+                new TaskUpdateItem(missingId, new TaskRequest("Missing", null, false)));
+
+        // When & Then
+        mockMvc.perform(put("/api/v1/tasks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(items)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].status").value(200))
+                .andExpect(jsonPath("$.results[0].task.title").value("Updated"))
+                .andExpect(jsonPath("$.results[0].task.completed").value(true))
+                .andExpect(jsonPath("$.results[1].status").value(404))
+                .andExpect(jsonPath("$.results[1].errorCode").value("TASK_NOT_FOUND"));
+    }
+
+    @Test
+    void deleteTasks_ShouldDeleteExistingAndReportMissing() throws Exception {
+        // Given
+        UUID missingId = UUID.fromString("11111111-1111-1111-1111-111111111111");
+
+        // When & Then
+        mockMvc.perform(delete("/api/v1/tasks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(existingTaskId, missingId))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.results[0].status").value(204))
+                .andExpect(jsonPath("$.results[1].status").value(404));
+
+        assertEquals(0, taskRepository.count());
+    }
+}
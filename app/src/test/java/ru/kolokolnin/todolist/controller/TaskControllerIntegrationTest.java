@@ -0,0 +1,418 @@
+package ru.kolokolnin.todolist.controller;
+
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import ru.kolokolnin.todolist.config.WireFormatConfig;
+import ru.kolokolnin.todolist.dto.TaskRequest;
+import ru.kolokolnin.todolist.dto.TaskResponse;
+import ru.kolokolnin.todolist.entity.TaskEntity;
+import ru.kolokolnin.todolist.repo.TaskRepository;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class TaskControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private UUID existingTaskId;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+
+        TaskEntity task = TaskEntity.builder()
+                .title("Existing Task")
+                .description("Existing Description")
+                .completed(false)
+                .build();
+
+        TaskEntity savedTask = taskRepository.save(task);
+        existingTaskId = savedTask.getId();
+    }
+
+    @Test
+    void createTask_IntegrationTest() throws Exception {
+        // Given
+        TaskRequest request = new TaskRequest("Integration Task", "Integration Description", false);
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").isNotEmpty())
+                .andExpect(jsonPath("$.title").value("Integration Task"))
+                .andExpect(jsonPath("$.description").value("Integration Description"))
+                .andExpect(jsonPath("$.completed").value(false))
+                .andExpect(jsonPath("$.createdAt").isNotEmpty())
+                .andExpect(jsonPath("$.updatedAt").isNotEmpty());
+    }
+
+    @Test
+    void getTaskById_IntegrationTest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/tasks/{id}", existingTaskId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(existingTaskId.toString()))
+                .andExpect(jsonPath("$.title").value("Existing Task"))
+                .andExpect(jsonPath("$.description").value("Existing Description"));
+    }
+
+    @Test
+    void getTaskById_WhenNotExists_ShouldReturnNotFound() throws Exception {
+        // Given
+        UUID nonExistentId = UUID.fromString("11111111-1111-1111-1111-111111111111");
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/tasks/{id}", nonExistentId))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.errorCode").value("TASK_NOT_FOUND"));
+    }
+
+    @Test
+    void updateTask_IntegrationTest() throws Exception {
+        // Given
+        TaskRequest request = new TaskRequest("Updated Task", "Updated Description", true);
+
+        // When & Then
+        mockMvc.perform(put("/api/v1/tasks/{id}", existingTaskId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Updated Task"))
+                .andExpect(jsonPath("$.description").value("Updated Description"))
+                .andExpect(jsonPath("$.completed").value(true));
+    }
+
+    @Test
+    void deleteTask_IntegrationTest() throws Exception {
+        // When & Then
+        mockMvc.perform(delete("/api/v1/tasks/{id}", existingTaskId))
+                .andExpect(status().isNoContent());
+
+        // Verify task is actually deleted
+        mockMvc.perform(get("/api/v1/tasks/{id}", existingTaskId))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getAllTasks_IntegrationTest() throws Exception {
+        // Given
+        TaskEntity task2 = TaskEntity.builder()
+                .title("Second Task")
+                .description("Second Description")
+                .completed(true)
+                .build();
+        taskRepository.save(task2);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/tasks"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].title").value("Existing Task"))
+                .andExpect(jsonPath("$[1].title").value("Second Task"));
+    }
+
+    @Test
+    void getTasksPage_ShouldFollowCursorAndApplyFilters() throws Exception {
+        // Given
+        taskRepository.save(TaskEntity.builder().title("Second Task").completed(true).build());
+        taskRepository.save(TaskEntity.builder().title("Third Task").completed(false).build());
+
+        // When & Then
+        String firstPage = mockMvc.perform(get("/api/v1/tasks/page").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].title").value("Existing Task"))
+                .andExpect(jsonPath("$.items[1].title").value("Second Task"))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andReturn().getResponse().getContentAsString();
+        String cursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/v1/tasks/page").param("limit", "2").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].title").value("Third Task"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+
+        mockMvc.perform(get("/api/v1/tasks/page").param("completed", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].title").value("Second Task"));
+    }
+
+    @Test
+    void getTasksPage_WithInvalidCursor_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks/page").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("VALIDATION_ERROR"));
+    }
+
+    @Test
+    void getTaskById_WithCurrentETag_ShouldReturnNotModified() throws Exception {
+        // Given
+        String etag = "\"" + existingTaskId + "-0\"";
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/tasks/{id}", existingTaskId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(jsonPath("$.version").value(0));
+
+        mockMvc.perform(get("/api/v1/tasks/{id}", existingTaskId)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+    }
+
+    @Test
+    void updateTask_WithCurrentIfMatch_ShouldReturnNewETag() throws Exception {
+        // Given
+        TaskRequest request = new TaskRequest("Updated Task", "Updated Description", true);
+
+        // When & Then
+        mockMvc.perform(put("/api/v1/tasks/{id}", existingTaskId)
+                        .header(HttpHeaders.IF_MATCH, "\"" + existingTaskId + "-0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + existingTaskId + "-1\""));
+    }
+
+    @Test
+    void updateTask_WithStaleIfMatch_ShouldReturnPreconditionFailed() throws Exception {
+        // Given
+        TaskRequest request = new TaskRequest("Updated Task", "Updated Description", true);
+
+        // When & Then
+        mockMvc.perform(put("/api/v1/tasks/{id}", existingTaskId)
+                        .header(HttpHeaders.IF_MATCH, "\"" + existingTaskId + "-5\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.errorCode").value("PRECONDITION_FAILED"));
+    }
+
+    @Test
+    void deleteTask_WithStaleIfMatch_ShouldReturnPreconditionFailed() throws Exception {
+        mockMvc.perform(delete("/api/v1/tasks/{id}", existingTaskId)
+                        .header(HttpHeaders.IF_MATCH, "\"" + existingTaskId + "-5\""))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(delete("/api/v1/tasks/{id}", existingTaskId)
+                        .header(HttpHeaders.IF_MATCH, "\"" + existingTaskId + "-0\""))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    void createTask_WithRepeatedIdempotencyKey_ShouldReplayOriginalResponse() throws Exception {
+        // Given
+        String key = UUID.randomUUID().toString();
+        String body = objectMapper.writeValueAsString(new TaskRequest("Idempotent Task", null, false));
+        String firstId = objectMapper.readTree(mockMvc.perform(post("/api/v1/tasks")
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"))
+                .andReturn().getResponse().getContentAsString()).get("id").asText();
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/tasks")
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.id").value(firstId));
+        assertEquals(2, taskRepository.count());
+
+        mockMvc.perform(post("/api/v1/tasks")
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskRequest("Other Task", null, false))))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errorCode").value("IDEMPOTENCY_KEY_REUSED"));
+    }
+
+    @Test
+    void patchTask_ShouldChangeOnlyGivenFields() throws Exception {
+        mockMvc.perform(patch("/api/v1/tasks/{id}", existingTaskId)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"completed\":true}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Existing Task"))
+                .andExpect(jsonPath("$.description").value("Existing Description"))
+                .andExpect(jsonPath("$.completed").value(true))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + existingTaskId + "-1\""));
+    }
+
+    @Test
+    void patchTask_WithPreferMinimal_ShouldReturnNoContentAndETag() throws Exception {
+        mockMvc.perform(patch("/api/v1/tasks/{id}", existingTaskId)
+                        .header(HttpHeaders.IF_MATCH, "\"" + existingTaskId + "-0\"")
+                        .header("Prefer", "return=minimal")
+                        .contentType("application/merge-patch+json")
+                        .content("{\"description\":null}"))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + existingTaskId + "-1\""))
+                .andExpect(content().string(""));
+
+        assertNull(taskRepository.findById(existingTaskId).orElseThrow().getDescription());
+    }
+
+    @Test
+    void patchTask_WithInvalidField_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(patch("/api/v1/tasks/{id}", existingTaskId)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"completed\":\"yes\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("VALIDATION_ERROR"));
+    }
+
+    @Test
+    void patchTask_WhenMergedTaskIsInvalid_ShouldReturnRequestConstraintMessage() throws Exception {
+        mockMvc.perform(patch("/api/v1/tasks/{id}", existingTaskId)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"title\":null}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("title: Title is required"));
+
+        mockMvc.perform(patch("/api/v1/tasks/{id}", existingTaskId)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"description\":\"" + "d".repeat(2001) + "\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("description: Description must not exceed 2000 characters"));
+
+        assertEquals("Existing Description", taskRepository.findById(existingTaskId).orElseThrow().getDescription());
+    }
+
+    @Test
+    void getChanges_ShouldReturnUpdatedTasksThenTombstones() throws Exception {
+        // Given
+        taskRepository.save(TaskEntity.builder().title("Second Task").completed(false).build());
+        taskRepository.save(TaskEntity.builder().title("Third Task").completed(true).build());
+        mockMvc.perform(delete("/api/v1/tasks/{id}", existingTaskId))
+                .andExpect(status().isNoContent());
+
+        // When & Then
+        String firstPage = mockMvc.perform(get("/api/v1/tasks/changes").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated.length()").value(2))
+                .andExpect(jsonPath("$.updated[0].title").value("Second Task"))
+                .andExpect(jsonPath("$.updated[1].title").value("Third Task"))
+                .andExpect(jsonPath("$.deleted.length()").value(0))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andReturn().getResponse().getContentAsString();
+        String cursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        String secondPage = mockMvc.perform(get("/api/v1/tasks/changes").param("limit", "2").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated.length()").value(0))
+                .andExpect(jsonPath("$.deleted[0].id").value(existingTaskId.toString()))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andReturn().getResponse().getContentAsString();
+        String lastCursor = objectMapper.readTree(secondPage).get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/v1/tasks/changes").param("cursor", lastCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated.length()").value(0))
+                .andExpect(jsonPath("$.deleted.length()").value(0))
+                .andExpect(jsonPath("$.nextCursor").value(lastCursor));
+    }
+
+    @Test
+    void getChanges_SinceFuture_ShouldReturnNothing() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks/changes").param("since", "2999-01-01T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated.length()").value(0))
+                .andExpect(jsonPath("$.deleted.length()").value(0))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void createTask_WithCbor_ShouldNegotiateBinaryFormat() throws Exception {
+        // Given
+        ObjectMapper cborMapper = WireFormatConfig.cborObjectMapper();
+        TaskRequest request = new TaskRequest("Binary Task", "Binary Description", true);
+
+        // When
+        byte[] body = mockMvc.perform(post("/api/v1/tasks")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cborMapper.writeValueAsBytes(request)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        TaskResponse response = cborMapper.readValue(body, TaskResponse.class);
+        assertEquals("Binary Task", response.title());
+        assertEquals(true, response.completed());
+        mockMvc.perform(get("/api/v1/tasks/{id}", response.id()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void getAllTasks_WithCborAccept_ShouldStreamBinaryArray() throws Exception {
+        // When
+        byte[] body = mockMvc.perform(get("/api/v1/tasks").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        TaskResponse[] tasks = WireFormatConfig.cborObjectMapper().readValue(body, TaskResponse[].class);
+        assertEquals(1, tasks.length);
+        assertEquals(existingTaskId, tasks[0].id());
+    }
+
+    @Test
+    void getAllTasks_ShouldHonourAcceptQualityValues() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks").header(HttpHeaders.ACCEPT, "application/json;q=0.5, application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+
+        mockMvc.perform(get("/api/v1/tasks").header(HttpHeaders.ACCEPT, "application/cbor;q=0, */*"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+
+        mockMvc.perform(get("/api/v1/tasks").accept(MediaType.APPLICATION_XML))
+                .andExpect(status().isNotAcceptable());
+    }
+}
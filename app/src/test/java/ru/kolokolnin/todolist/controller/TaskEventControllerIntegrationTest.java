@@ -0,0 +1,109 @@
+package ru.kolokolnin.todolist.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import ru.kolokolnin.todolist.dto.TaskRequest;
+import ru.kolokolnin.todolist.repo.TaskRepository;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TaskEventControllerIntegrationTest {
+
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\S+)");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void subscribe_ShouldStreamCommittedChanges() throws Exception {
+        // Given
+        MockHttpServletResponse stream = subscribe(null);
+        awaitContent(stream, "event:ready");
+
+        // When
+        createTask("Streamed Task");
+
+        // Then
+        awaitContent(stream, "event:created");
+        assertTrue(stream.getContentAsString().contains("Streamed Task"));
+    }
+
+    @Test
+    void subscribe_WithLastEventId_ShouldReplayMissedEvents() throws Exception {
+        // Given
+        MockHttpServletResponse first = subscribe(null);
+        awaitContent(first, "event:ready");
+        Matcher matcher = EVENT_ID.matcher(first.getContentAsString());
+        assertTrue(matcher.find());
+        createTask("Missed Task");
+
+        // When
+        MockHttpServletResponse resumed = subscribe(matcher.group(1));
+
+        // Then
+        awaitContent(resumed, "Missed Task");
+        assertTrue(resumed.getContentAsString().contains("event:created"));
+    }
+
+    @Test
+    void subscribe_WithUnknownEventId_ShouldRequestReset() throws Exception {
+        // When & Then
+        awaitContent(subscribe("previous-boot:42"), "event:reset");
+    }
+
+    private MockHttpServletResponse subscribe(String lastEventId) throws Exception {
+        MockHttpServletRequestBuilder builder = get("/api/v1/tasks/events").accept(MediaType.TEXT_EVENT_STREAM);
+        if (lastEventId != null) {
+            builder.header("Last-Event-ID", lastEventId);
+        }
+        return mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+    }
+
+    private void createTask(String title) throws Exception {
+        mockMvc.perform(post("/api/v1/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskRequest(title, null, false))))
+                .andExpect(status().isCreated());
+    }
+
+    private static void awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!response.getContentAsString().contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(response.getContentAsString().contains(expected),
+                () -> "Expected '" + expected + "' in event stream");
+    }
+}
@@ -0,0 +1,77 @@
+package ru.kolokolnin.todolist.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.kolokolnin.todolist.dto.TaskRequest;
+import ru.kolokolnin.todolist.repo.TaskRepository;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "todo.ingest.enabled=true",
+        "todo.ingest.flush-interval=10ms",
+        "todo.ingest.journal-directory=${java.io.tmpdir}/todo-ingest-${random.uuid}"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TaskIngestControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void acceptTask_ShouldAcknowledgeAndWriteInBackground() throws Exception {
+        // Given
+        TaskRequest request = new TaskRequest("Async Task", "Async Description", false);
+
+        // When
+        String body = mockMvc.perform(post("/api/v1/tasks/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists(HttpHeaders.LOCATION))
+                .andReturn().getResponse().getContentAsString();
+        UUID id = UUID.fromString(objectMapper.readTree(body).get("id").asText());
+
+        // Then
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!taskRepository.existsById(id) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(taskRepository.existsById(id));
+        assertEquals("Async Task", taskRepository.findById(id).orElseThrow().getTitle());
+    }
+
+    @Test
+    void acceptTask_WhenInvalid_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/api/v1/tasks/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskRequest("", null, false))))
+                .andExpect(status().isBadRequest());
+    }
+}
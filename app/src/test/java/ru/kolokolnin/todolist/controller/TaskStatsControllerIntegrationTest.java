@@ -0,0 +1,117 @@
+package ru.kolokolnin.todolist.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.kolokolnin.todolist.dto.TaskRequest;
+import ru.kolokolnin.todolist.dto.TaskResponse;
+import ru.kolokolnin.todolist.repo.TaskRepository;
+import ru.kolokolnin.todolist.repo.TaskTombstoneRepository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TaskStatsControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskTombstoneRepository tombstoneRepository;
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAllInBatch();
+        tombstoneRepository.deleteAllInBatch();
+    }
+
+    // Counters live for the whole shared context, so each test asserts the change it caused
+    @Test
+    void getStats_ShouldCountCreatedTasksAndDailyHistogram() throws Exception {
+        // Given
+        JsonNode before = getStats(7);
+        createTask(new TaskRequest("Open Task", null, false));
+        createTask(new TaskRequest("Done Task", null, true));
+
+        // When
+        JsonNode after = getStats(7);
+
+        // Then
+        assertEquals(2, delta(before, after, "total"));
+        assertEquals(1, delta(before, after, "completed"));
+        assertEquals(1, delta(before, after, "open"));
+        assertEquals(7, after.get("daily").size());
+        assertEquals(2, after.at("/daily/6/created").asLong() - before.at("/daily/6/created").asLong());
+        assertEquals(1, after.at("/daily/6/completed").asLong() - before.at("/daily/6/completed").asLong());
+    }
+
+    @Test
+    void getStats_ShouldFollowReopenedAndDeletedTasks() throws Exception {
+        // Given
+        TaskResponse task = createTask(new TaskRequest("Done Task", null, true));
+        JsonNode before = getStats(1);
+
+        // When
+        mockMvc.perform(put("/api/v1/tasks/{id}", task.id())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskRequest("Reopened", null, false))))
+                .andExpect(status().isOk());
+        JsonNode reopened = getStats(1);
+        mockMvc.perform(delete("/api/v1/tasks/{id}", task.id()))
+                .andExpect(status().isNoContent());
+        JsonNode deleted = getStats(1);
+
+        // Then
+        assertEquals(0, delta(before, reopened, "total"));
+        assertEquals(-1, delta(before, reopened, "completed"));
+        assertEquals(-1, reopened.at("/daily/0/completed").asLong() - before.at("/daily/0/completed").asLong());
+        assertEquals(-1, delta(reopened, deleted, "total"));
+        assertEquals(-1, deleted.at("/daily/0/created").asLong() - reopened.at("/daily/0/created").asLong());
+    }
+
+    @Test
+    void getStats_WhenDaysOutOfRange_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks/stats").param("days", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private JsonNode getStats(int days) throws Exception {
+        String body = mockMvc.perform(get("/api/v1/tasks/stats").param("days", String.valueOf(days)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private static long delta(JsonNode before, JsonNode after, String field) {
+        return after.get(field).asLong() - before.get(field).asLong();
+    }
+
+    private TaskResponse createTask(TaskRequest request) throws Exception {
+        String body = mockMvc.perform(post("/api/v1/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(body, TaskResponse.class);
+    }
+}
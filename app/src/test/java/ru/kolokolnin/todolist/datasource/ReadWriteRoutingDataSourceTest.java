@@ -0,0 +1,51 @@
+package ru.kolokolnin.todolist.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private final ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource();
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReplicaStickiness.unpin();
+    }
+
+    @Test
+    void determineCurrentLookupKey_ShouldRouteReadOnlyTransactionsToReplica() {
+        assertEquals(ReadWriteRoutingDataSource.Route.PRIMARY, routing.determineCurrentLookupKey());
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(ReadWriteRoutingDataSource.Route.REPLICA, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void determineCurrentLookupKey_WhenPinned_ShouldReadFromPrimary() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReplicaStickiness.pin();
+
+        assertEquals(ReadWriteRoutingDataSource.Route.PRIMARY, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void wroteRecently_ShouldExpireAfterMaxLag() throws InterruptedException {
+        ReplicaStickiness stickiness = new ReplicaStickiness(Duration.ofMillis(50), 100);
+
+        stickiness.recordWrite("client");
+        assertTrue(stickiness.wroteRecently("client"));
+        assertFalse(stickiness.wroteRecently("other"));
+
+        Thread.sleep(100);
+        assertFalse(stickiness.wroteRecently("client"));
+    }
+}
@@ -0,0 +1,63 @@
+package ru.kolokolnin.todolist.exception;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import ru.kolokolnin.todolist.dto.ErrorResponse;
+
+import java.sql.SQLTransientConnectionException;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    void handleDatabaseUnavailable_WhenPoolTimesOutOpeningTransaction_ShouldReturnServiceUnavailable() {
+        // Given
+        SQLTransientConnectionException timeout = new SQLTransientConnectionException(
+                "todo-hikari - Connection is not available, request timed out after 3000ms");
+        CannotCreateTransactionException ex =
+                new CannotCreateTransactionException("Could not open JPA EntityManager for transaction", timeout);
+
+        // When
+        ResponseEntity<ErrorResponse> response = handler.handleDatabaseUnavailableException(ex);
+
+        // Then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals("DATABASE_UNAVAILABLE", response.getBody().errorCode());
+    }
+
+    @Test
+    void handleSyncCursorExpired_ShouldReturnGone() {
+        // Given
+        SyncCursorExpiredException ex = new SyncCursorExpiredException(LocalDateTime.of(2024, 1, 15, 0, 0));
+
+        // When
+        ResponseEntity<ErrorResponse> response = handler.handleSyncCursorExpiredException(ex);
+
+        // Then
+        assertEquals(HttpStatus.GONE, response.getStatusCode());
+        assertEquals("SYNC_CURSOR_EXPIRED", response.getBody().errorCode());
+    }
+
+    @Test
+    void handleDatabaseUnavailable_WhenPoolTimesOutOutsideTransaction_ShouldReturnServiceUnavailable() {
+        // Given
+        CannotGetJdbcConnectionException ex = new CannotGetJdbcConnectionException("Failed to obtain JDBC Connection",
+                new SQLTransientConnectionException("Connection is not available"));
+
+        // When
+        ResponseEntity<ErrorResponse> response = handler.handleDatabaseUnavailableException(ex);
+
+        // Then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+}
@@ -0,0 +1,108 @@
+package ru.kolokolnin.todolist.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import ru.kolokolnin.todolist.config.IdempotencyProperties;
+import ru.kolokolnin.todolist.dto.TaskRequest;
+import ru.kolokolnin.todolist.exception.IdempotencyKeyReusedException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdempotencyStoreTest {
+
+    private static final String SCOPE = "POST /api/v1/tasks";
+
+    private final IdempotencyStore store = new IdempotencyStore(new ObjectMapper(),
+            new IdempotencyProperties(Duration.ofMinutes(1), 1000, 255, Duration.ofSeconds(5)));
+    private final TaskRequest request = new TaskRequest("Task", "Description", false);
+
+    @Test
+    void execute_WithSameKeyAndRequest_ShouldReplayWithoutRunningAgain() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        IdempotentResult<Integer> first = store.execute(SCOPE, "key", request, calls::incrementAndGet);
+        IdempotentResult<Integer> second = store.execute(SCOPE, "key", request, calls::incrementAndGet);
+
+        // Then
+        assertFalse(first.replayed());
+        assertTrue(second.replayed());
+        assertEquals(1, second.value());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void execute_WithSameKeyAndDifferentRequest_ShouldReject() {
+        // Given
+        store.execute(SCOPE, "key", request, () -> 1);
+        TaskRequest other = new TaskRequest("Other", null, false);
+
+        // When & Then
+        assertThrows(IdempotencyKeyReusedException.class, () -> store.execute(SCOPE, "key", other, () -> 2));
+    }
+
+    @Test
+    void execute_WhenActionFails_ShouldAllowRetry() {
+        // Given
+        assertThrows(IllegalStateException.class, () -> store.execute(SCOPE, "key", request, () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        // When
+        IdempotentResult<Integer> retried = store.execute(SCOPE, "key", request, () -> 7);
+
+        // Then
+        assertFalse(retried.replayed());
+        assertEquals(7, retried.value());
+    }
+
+    @Test
+    void execute_WithConcurrentDuplicates_ShouldRunActionOnce() throws Exception {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // When
+            Future<IdempotentResult<Integer>> leader = executor.submit(() -> store.execute(SCOPE, "key", request, () -> {
+                started.countDown();
+                await(release);
+                return calls.incrementAndGet();
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<IdempotentResult<Integer>> duplicate = executor.submit(
+                    () -> store.execute(SCOPE, "key", request, calls::incrementAndGet));
+            release.countDown();
+
+            // Then
+            assertEquals(1, leader.get(5, TimeUnit.SECONDS).value());
+            assertEquals(1, duplicate.get(5, TimeUnit.SECONDS).value());
+            assertTrue(duplicate.get().replayed());
+            assertEquals(1, calls.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package ru.kolokolnin.todolist.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.kolokolnin.todolist.config.DateTimeConfig;
+import ru.kolokolnin.todolist.dto.TaskRequest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TaskIngestJournalTest {
+
+    private final ObjectMapper objectMapper = new DateTimeConfig().jackson2ObjectMapperBuilder().build();
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void replay_ShouldReturnUnacknowledgedTasksAfterRestart() throws IOException {
+        AcceptedTask first = task("First");
+        AcceptedTask second = task("Second");
+        try (TaskIngestJournal journal = new TaskIngestJournal(directory, 1024 * 1024, true, objectMapper)) {
+            journal.append(first);
+            journal.append(second);
+        }
+        // Simulates a crash in the middle of an append
+        Files.writeString(onlySegment(), "{\"id\":", StandardOpenOption.APPEND);
+
+        try (TaskIngestJournal journal = new TaskIngestJournal(directory, 1024 * 1024, true, objectMapper)) {
+            assertEquals(List.of(first, second), journal.replay());
+
+            journal.discardReplayed();
+            assertEquals(1, segmentCount());
+        }
+    }
+
+    @Test
+    void acknowledge_ShouldDeleteRolledSegmentsOnceFlushed() throws IOException {
+        try (TaskIngestJournal journal = new TaskIngestJournal(directory, 1, false, objectMapper)) {
+            long firstSegment = journal.append(task("First"));
+            long secondSegment = journal.append(task("Second"));
+            assertEquals(2, segmentCount());
+
+            journal.acknowledge(Map.of(firstSegment, 1));
+            assertEquals(1, segmentCount());
+
+            journal.acknowledge(Map.of(secondSegment, 1));
+            assertEquals(1, segmentCount());
+        }
+    }
+
+    private Path onlySegment() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.findFirst().orElseThrow();
+        }
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    private static AcceptedTask task(String title) {
+        return new AcceptedTask(UUID.randomUUID(), new TaskRequest(title, null, false),
+                LocalDateTime.of(2024, 1, 15, 10, 30));
+    }
+}
@@ -0,0 +1,119 @@
+package ru.kolokolnin.todolist.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.unit.DataSize;
+import ru.kolokolnin.todolist.config.IngestProperties;
+import ru.kolokolnin.todolist.dto.TaskRequest;
+import ru.kolokolnin.todolist.repo.TaskRepository;
+import ru.kolokolnin.todolist.repo.TaskTombstoneRepository;
+import ru.kolokolnin.todolist.service.TaskBatchService;
+import ru.kolokolnin.todolist.service.TaskService;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TaskIngestServiceRestartTest {
+
+    @Autowired
+    private TaskBatchService taskBatchService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @TempDir
+    private Path directory;
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAllInBatch();
+        tombstoneRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void restart_AfterCleanShutdown_ShouldNotResurrectDeletedTask() throws Exception {
+        // Given
+        TaskIngestService first = newService();
+        first.start();
+        UUID id = first.accept(new TaskRequest("Ingested", null, false)).id();
+        awaitInserted(id);
+        first.stop();
+        taskService.deleteTask(id, null);
+
+        // When
+        TaskIngestService second = newService();
+        second.start();
+        second.stop();
+
+        // Then
+        assertFalse(taskRepository.existsById(id));
+        assertEquals(0, segmentCount());
+    }
+
+    @Test
+    void replay_AfterCrash_ShouldSkipTombstonedTasks() throws Exception {
+        // Given: the task was flushed and deleted, but the crash left its segment behind
+        AcceptedTask task = new AcceptedTask(UUID.randomUUID(), new TaskRequest("Crashed", null, false),
+                LocalDateTime.now());
+        try (TaskIngestJournal journal = new TaskIngestJournal(directory, 1024 * 1024, false, objectMapper)) {
+            journal.append(task);
+        }
+        taskBatchService.insertAccepted(List.of(task));
+        taskService.deleteTask(task.id(), null);
+
+        // When
+        TaskIngestService service = newService();
+        service.start();
+        service.stop();
+
+        // Then
+        assertFalse(taskRepository.existsById(task.id()));
+    }
+
+    private TaskIngestService newService() throws IOException {
+        IngestProperties properties = new IngestProperties(true, 100, 10, Duration.ofMillis(10),
+                Duration.ofSeconds(1), directory, DataSize.ofMegabytes(1), false);
+        return new TaskIngestService(taskBatchService, properties, objectMapper, new SimpleMeterRegistry());
+    }
+
+    private void awaitInserted(UUID id) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!taskRepository.existsById(id) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(taskRepository.existsById(id));
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
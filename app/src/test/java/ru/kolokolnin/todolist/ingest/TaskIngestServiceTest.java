@@ -0,0 +1,115 @@
+package ru.kolokolnin.todolist.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.util.unit.DataSize;
+import ru.kolokolnin.todolist.config.DateTimeConfig;
+import ru.kolokolnin.todolist.config.IngestProperties;
+import ru.kolokolnin.todolist.dto.TaskRequest;
+import ru.kolokolnin.todolist.service.TaskBatchService;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TaskIngestServiceTest {
+
+    private final ObjectMapper objectMapper = new DateTimeConfig().jackson2ObjectMapperBuilder().build();
+    private final TaskBatchService taskBatchService = mock(TaskBatchService.class);
+    private final Set<UUID> inserted = ConcurrentHashMap.newKeySet();
+
+    @TempDir
+    private Path directory;
+
+    private TaskIngestService service;
+
+    @AfterEach
+    void tearDown() {
+        service.stop();
+    }
+
+    @Test
+    void flush_WhenOneTaskIsRejected_ShouldDeadLetterItAndWriteTheRest() throws Exception {
+        // Given
+        when(taskBatchService.insertAccepted(anyList())).thenAnswer(invocation -> {
+            List<AcceptedTask> tasks = invocation.getArgument(0);
+            if (tasks.stream().anyMatch(task -> task.task().title().equals("Poison"))) {
+                throw new DataIntegrityViolationException("value too long");
+            }
+            tasks.forEach(task -> inserted.add(task.id()));
+            return tasks.size();
+        });
+        service = startService();
+
+        // When
+        UUID first = service.accept(new TaskRequest("First", null, false)).id();
+        UUID poison = service.accept(new TaskRequest("Poison", null, false)).id();
+        UUID second = service.accept(new TaskRequest("Second", null, false)).id();
+        awaitInserted(first, second);
+        UUID afterwards = service.accept(new TaskRequest("Afterwards", null, false)).id();
+        awaitInserted(afterwards);
+
+        // Then
+        assertFalse(inserted.contains(poison));
+        String deadLetters = Files.readString(directory.resolve("dead-letter.ndjson"));
+        assertTrue(deadLetters.contains(poison.toString()));
+        assertEquals(1, deadLetters.lines().count());
+    }
+
+    @Test
+    void flush_WhenFailureIsTransient_ShouldRetryWithoutDeadLettering() throws Exception {
+        // Given
+        AtomicBoolean failed = new AtomicBoolean();
+        when(taskBatchService.insertAccepted(anyList())).thenAnswer(invocation -> {
+            if (failed.compareAndSet(false, true)) {
+                throw new TransientDataAccessResourceException("connection reset");
+            }
+            List<AcceptedTask> tasks = invocation.getArgument(0);
+            tasks.forEach(task -> inserted.add(task.id()));
+            return tasks.size();
+        });
+        service = startService();
+
+        // When
+        UUID id = service.accept(new TaskRequest("Retried", null, false)).id();
+        awaitInserted(id);
+
+        // Then
+        assertFalse(Files.exists(directory.resolve("dead-letter.ndjson")));
+    }
+
+    private TaskIngestService startService() throws IOException {
+        IngestProperties properties = new IngestProperties(true, 100, 10, Duration.ofMillis(10),
+                Duration.ofSeconds(1), directory, DataSize.ofMegabytes(1), false);
+        TaskIngestService ingestService =
+                new TaskIngestService(taskBatchService, properties, objectMapper, new SimpleMeterRegistry());
+        ingestService.start();
+        return ingestService;
+    }
+
+    private void awaitInserted(UUID... ids) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!inserted.containsAll(List.of(ids)) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(inserted.containsAll(List.of(ids)));
+    }
+}
@@ -0,0 +1,43 @@
+package ru.kolokolnin.todolist.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+class RequestMetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void prometheusEndpoint_ShouldExposeRequestDbAndCacheMetrics() throws Exception {
+        // Given
+        mockMvc.perform(get("/api/v1/tasks/{id}", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+
+        // When & Then
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket")))
+                .andExpect(content().string(containsString(
+                        "todo_db_statements_count{method=\"GET\",uri=\"/api/v1/tasks/{id}\"")))
+                .andExpect(content().string(containsString("todo_db_time_seconds_bucket")))
+                .andExpect(content().string(containsString("cache_gets_total{cache=\"tasks\"")))
+                .andExpect(content().string(containsString("hikaricp_connections_pending")));
+    }
+}
@@ -0,0 +1,117 @@
+package ru.kolokolnin.todolist.search;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import ru.kolokolnin.todolist.config.SearchProperties;
+import ru.kolokolnin.todolist.dto.TaskResponse;
+import ru.kolokolnin.todolist.event.TaskChangedEvent;
+import ru.kolokolnin.todolist.service.TaskService;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class TaskSearchIndexTest {
+
+    private final TaskService taskService = mock(TaskService.class);
+    private final TaskSearchIndex searchIndex =
+            new TaskSearchIndex(taskService, new SearchProperties(Duration.ZERO, 10_000));
+
+    @AfterEach
+    void tearDown() throws IOException {
+        searchIndex.close();
+    }
+
+    @Test
+    void search_ShouldRankTitleMatchesFirst() {
+        TaskResponse inDescription = index("Сходить в магазин", "Купить молоко и хлеб");
+        TaskResponse inTitle = index("Купить молоко", null);
+        index("Изучить Spring Boot", "REST API");
+
+        TaskSearchIndex.SearchPage page = searchIndex.search("молоко", 0, 10);
+
+        assertEquals(List.of(inTitle.id(), inDescription.id()), page.ids());
+        assertEquals(2, page.total());
+        assertTrue(page.totalExact());
+    }
+
+    @Test
+    void search_ShouldMatchLastTermAsPrefix() {
+        TaskResponse task = index("Изучить Spring Boot", "REST API");
+        index("Изучить Java", null);
+
+        assertEquals(List.of(task.id()), searchIndex.search("изучить spr", 0, 10).ids());
+    }
+
+    @Test
+    void search_ShouldPageThroughResults() {
+        for (int i = 0; i < 5; i++) {
+            index("Задача " + i, null);
+        }
+
+        TaskSearchIndex.SearchPage page = searchIndex.search("задача", 3, 10);
+
+        assertEquals(2, page.ids().size());
+        assertEquals(5, page.total());
+    }
+
+    @Test
+    void onTaskChanged_ShouldReindexUpdatedAndDropDeletedTasks() {
+        TaskResponse task = index("Старое название", null);
+        searchIndex.onTaskChanged(TaskChangedEvent.updated(task,
+                new TaskResponse(task.id(), "Новое название", null, false, null, null, null, 1L)));
+
+        assertTrue(searchIndex.search("старое", 0, 10).ids().isEmpty());
+        assertEquals(List.of(task.id()), searchIndex.search("новое", 0, 10).ids());
+
+        searchIndex.onTaskChanged(TaskChangedEvent.deleted(task));
+
+        assertTrue(searchIndex.search("новое", 0, 10).ids().isEmpty());
+    }
+
+    @Test
+    void search_WhenMatchesExceedCountingThreshold_ShouldReportTotalAsLowerBound() {
+        for (int i = 0; i < 1_100; i++) {
+            index("Задача " + i, null);
+        }
+
+        TaskSearchIndex.SearchPage page = searchIndex.search("задача", 0, 10);
+
+        assertEquals(10, page.ids().size());
+        assertFalse(page.totalExact());
+        assertTrue(page.total() >= 1_000);
+    }
+
+    @Test
+    void rebuild_WhenTaskIsDeletedDuringExport_ShouldNotResurrectIt() {
+        // Given: the export read the task before the delete committed, but hands it over afterwards
+        TaskResponse task = new TaskResponse(UUID.randomUUID(), "Удаленная задача", null, false, null, null, null, 0L);
+        doAnswer(invocation -> {
+            Consumer<TaskResponse> consumer = invocation.getArgument(0);
+            searchIndex.onTaskChanged(TaskChangedEvent.deleted(task));
+            consumer.accept(task);
+            return null;
+        }).when(taskService).exportTasks(any());
+
+        // When
+        searchIndex.rebuild();
+
+        // Then
+        assertTrue(searchIndex.search("удаленная", 0, 10).ids().isEmpty());
+    }
+
+    private TaskResponse index(String title, String description) {
+        TaskResponse task = new TaskResponse(UUID.randomUUID(), title, description, false, null, null, null, 0L);
+        searchIndex.onTaskChanged(TaskChangedEvent.created(task));
+        return task;
+    }
+}
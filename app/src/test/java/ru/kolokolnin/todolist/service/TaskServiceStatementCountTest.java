@@ -0,0 +1,120 @@
+package ru.kolokolnin.todolist.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import ru.kolokolnin.todolist.dto.TaskPatch;
+import ru.kolokolnin.todolist.dto.TaskRequest;
+import ru.kolokolnin.todolist.dto.TaskResponse;
+import ru.kolokolnin.todolist.exception.PreconditionFailedException;
+import ru.kolokolnin.todolist.exception.TaskNotFoundException;
+import ru.kolokolnin.todolist.repo.TaskRepository;
+import ru.kolokolnin.todolist.repo.TaskTombstoneRepository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TaskServiceStatementCountTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private TaskResponse existingTask;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        existingTask = taskService.createTask(new TaskRequest("Existing Task", "Existing Description", false));
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAllInBatch();
+        tombstoneRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void deleteTask_ShouldDeleteAndWriteTombstoneOnly() {
+        taskService.deleteTask(existingTask.id(), null);
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void deleteTask_WhenNotExists_ShouldBeRejectedByIdFilter() {
+        UUID missingId = UUID.randomUUID();
+
+        assertThrows(TaskNotFoundException.class, () -> taskService.deleteTask(missingId, null));
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void updateTask_ShouldSelectAndUpdateOnly() {
+        TaskResponse updated = taskService.updateTask(existingTask.id(),
+                new TaskRequest("Updated Task", "Updated Description", true), null);
+
+        assertEquals(1L, updated.version());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void updateTask_WithExpectedVersion_ShouldIssueSingleUpdate() {
+        TaskResponse updated = taskService.updateTask(existingTask.id(),
+                new TaskRequest("Updated Task", null, null), existingTask.version());
+
+        assertEquals(1L, updated.version());
+        assertEquals(false, updated.completed());
+        assertEquals(existingTask.createdAt(), updated.createdAt());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void updateTask_WithStaleVersion_ShouldFailPrecondition() {
+        TaskRequest request = new TaskRequest("Updated Task", null, null);
+
+        assertThrows(PreconditionFailedException.class,
+                () -> taskService.updateTask(existingTask.id(), request, 5L));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void patchTask_ShouldSelectAndUpdateOnly() {
+        TaskResponse patched = taskService.patchTask(existingTask.id(),
+                new TaskPatch(null, null, Optional.of(true)), null);
+
+        assertEquals(true, patched.completed());
+        assertEquals("Existing Description", patched.description());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void patchTask_WhenNothingChanges_ShouldNotUpdate() {
+        TaskResponse patched = taskService.patchTask(existingTask.id(),
+                new TaskPatch(Optional.of("Existing Task"), null, Optional.of(false)), null);
+
+        assertEquals(existingTask.version(), patched.version());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,187 @@
+package ru.kolokolnin.todolist.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import ru.kolokolnin.todolist.cache.TaskCache;
+import ru.kolokolnin.todolist.cache.TaskIdFilter;
+import ru.kolokolnin.todolist.dto.TaskRequest;
+import ru.kolokolnin.todolist.dto.TaskResponse;
+import ru.kolokolnin.todolist.entity.TaskEntity;
+import ru.kolokolnin.todolist.exception.TaskNotFoundException;
+import ru.kolokolnin.todolist.mapper.TaskMapper;
+import ru.kolokolnin.todolist.repo.TaskRepository;
+import ru.kolokolnin.todolist.repo.TaskTombstoneRepository;
+import ru.kolokolnin.todolist.service.impl.TaskServiceImpl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskServiceTest {
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskMapper taskMapper;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TaskCache taskCache;
+
+    @Mock
+    private TaskTombstoneRepository tombstoneRepository;
+
+    @Mock
+    private TaskIdFilter taskIdFilter;
+
+    @InjectMocks
+    private TaskServiceImpl taskService;
+
+    @Test
+    void createTask_ShouldReturnTaskResponse() {
+        TaskRequest request = new TaskRequest("Test Task", "Test Description", false);
+        TaskEntity entity = TaskEntity.builder()
+                .id(UUID.randomUUID())
+                .title("Test Task")
+                .description("Test Description")
+                .completed(false)
+                .build();
+        TaskResponse response = new TaskResponse(
+                entity.getId(), "Test Task", "Test Description", false, null, null, null, 0L);
+
+        when(taskMapper.toEntity(request)).thenReturn(entity);
+        when(taskRepository.save(entity)).thenReturn(entity);
+        when(taskMapper.toResponse(entity)).thenReturn(response);
+
+        TaskResponse result = taskService.createTask(request);
+
+        assertNotNull(result);
+        assertEquals("Test Task", result.title());
+        verify(taskRepository, times(1)).save(entity);
+    }
+
+    @Test
+    void getTaskById_WhenTaskExists_ShouldReturnTaskResponse() {
+        UUID taskId = UUID.randomUUID();
+        TaskEntity entity = TaskEntity.builder().id(taskId).build();
+        TaskResponse response = new TaskResponse(taskId, "Test", null, false, null, null, null, 0L);
+
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(entity));
+        when(taskMapper.toResponse(entity)).thenReturn(response);
+
+        TaskResponse result = taskService.getTaskById(taskId);
+
+        assertNotNull(result);
+        assertEquals(taskId, result.id());
+    }
+
+    @Test
+    void getTaskById_WhenCached_ShouldNotQueryRepository() {
+        UUID taskId = UUID.randomUUID();
+        TaskResponse response = new TaskResponse(taskId, "Cached", null, false, null, null, null, 0L);
+
+        when(taskCache.get(taskId)).thenReturn(Optional.of(response));
+
+        TaskResponse result = taskService.getTaskById(taskId);
+
+        assertEquals(response, result);
+        verify(taskRepository, never()).findById(any());
+    }
+
+    @Test
+    void getTaskById_WhenTaskNotExists_ShouldThrowException() {
+        UUID taskId = UUID.randomUUID();
+        when(taskRepository.findById(taskId)).thenReturn(Optional.empty());
+
+        assertThrows(TaskNotFoundException.class, () -> taskService.getTaskById(taskId));
+    }
+
+    @Test
+    void updateTask_WithExpectedVersionAndCacheMiss_ShouldLoadAndCheckVersion() {
+        UUID taskId = UUID.randomUUID();
+        TaskRequest request = new TaskRequest("Updated", null, true);
+        TaskEntity entity = TaskEntity.builder().id(taskId).version(2L).build();
+        TaskResponse response = new TaskResponse(taskId, "Updated", null, true, null, null, null, 3L);
+
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(entity));
+        when(taskMapper.toResponse(entity)).thenReturn(response);
+
+        TaskResponse result = taskService.updateTask(taskId, request, 2L);
+
+        assertEquals(response, result);
+        verify(taskRepository, never()).updateByIdAndVersion(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void updateTask_WithExpectedVersionAndCachedSnapshot_ShouldNotRereadTask() {
+        UUID taskId = UUID.randomUUID();
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 15, 10, 30);
+        TaskRequest request = new TaskRequest("Updated", "Description", null);
+
+        when(taskRepository.updateByIdAndVersion(eq(taskId), eq(2L), eq("Updated"), eq("Description"), isNull(), any()))
+                .thenReturn(1);
+        when(taskCache.get(taskId)).thenReturn(Optional.of(
+                new TaskResponse(taskId, "Cached", null, true, createdAt, createdAt, null, 2L)));
+
+        TaskResponse result = taskService.updateTask(taskId, request, 2L);
+
+        assertEquals("Updated", result.title());
+        assertEquals(true, result.completed());
+        assertEquals(createdAt, result.createdAt());
+        assertEquals(3L, result.version());
+        verify(taskRepository, never()).findById(any());
+    }
+
+    @Test
+    void deleteTask_WhenIdFilterRejects_ShouldNotQueryDatabase() {
+        UUID taskId = UUID.randomUUID();
+        when(taskIdFilter.isDefinitelyAbsent(taskId)).thenReturn(true);
+
+        assertThrows(TaskNotFoundException.class, () -> taskService.deleteTask(taskId, null));
+        verify(taskRepository, never()).deleteTaskById(any());
+    }
+
+    @Test
+    void exportTasks_ShouldMapAndDetachEveryTask() {
+        TaskEntity entity1 = TaskEntity.builder().id(UUID.randomUUID()).build();
+        TaskEntity entity2 = TaskEntity.builder().id(UUID.randomUUID()).build();
+        TaskResponse response1 = new TaskResponse(entity1.getId(), "Task 1", null, false, null, null, null, 0L);
+        TaskResponse response2 = new TaskResponse(entity2.getId(), "Task 2", null, false, null, null, null, 0L);
+
+        when(taskRepository.streamAll()).thenReturn(Stream.of(entity1, entity2));
+        when(taskMapper.toResponse(entity1)).thenReturn(response1);
+        when(taskMapper.toResponse(entity2)).thenReturn(response2);
+
+        List<TaskResponse> exported = new ArrayList<>();
+        taskService.exportTasks(exported::add);
+
+        assertEquals(List.of(response1, response2), exported);
+        verify(entityManager, times(1)).detach(entity1);
+        verify(entityManager, times(1)).detach(entity2);
+    }
+}
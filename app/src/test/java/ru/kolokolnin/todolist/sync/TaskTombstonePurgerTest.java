@@ -0,0 +1,82 @@
+package ru.kolokolnin.todolist.sync;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import ru.kolokolnin.todolist.config.SyncProperties;
+import ru.kolokolnin.todolist.entity.TaskTombstoneEntity;
+import ru.kolokolnin.todolist.exception.SyncCursorExpiredException;
+import ru.kolokolnin.todolist.repo.TaskSyncStateRepository;
+import ru.kolokolnin.todolist.repo.TaskTombstoneRepository;
+import ru.kolokolnin.todolist.service.TaskService;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TaskTombstonePurgerTest {
+
+    @Autowired
+    private TaskTombstonePurger purger;
+
+    @Autowired
+    private TaskTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private TaskSyncStateRepository syncStateRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @AfterEach
+    void tearDown() {
+        tombstoneRepository.deleteAllInBatch();
+        syncStateRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void purge_ShouldDropTombstonesOlderThanRetention() {
+        // Given
+        UUID expiredId = UUID.randomUUID();
+        UUID recentId = UUID.randomUUID();
+        tombstoneRepository.save(new TaskTombstoneEntity(expiredId, LocalDateTime.now().minusDays(31)));
+        tombstoneRepository.save(new TaskTombstoneEntity(recentId, LocalDateTime.now().minusDays(29)));
+
+        // When
+        int purged = purger.purge();
+
+        // Then
+        assertEquals(1, purged);
+        assertFalse(tombstoneRepository.existsById(expiredId));
+        assertTrue(tombstoneRepository.existsById(recentId));
+    }
+
+    @Test
+    void getChanges_WhenCursorIsOlderThanPurge_ShouldRequireResync() {
+        // Given
+        tombstoneRepository.save(new TaskTombstoneEntity(UUID.randomUUID(), LocalDateTime.now().minusDays(31)));
+        purger.purge();
+
+        // When & Then
+        assertThrows(SyncCursorExpiredException.class,
+                () -> taskService.getChanges(null, LocalDateTime.now().minusDays(40), 10));
+        assertTrue(taskService.getChanges(null, LocalDateTime.now().minusDays(29), 10).deleted().isEmpty());
+        assertTrue(taskService.getChanges(null, null, 10).deleted().isEmpty());
+    }
+
+    @Test
+    void constructor_WhenRetentionNotLongerThanSettleTime_ShouldFail() {
+        SyncProperties properties = new SyncProperties(Duration.ofMinutes(5), Duration.ofMinutes(5), Duration.ZERO);
+
+        assertThrows(IllegalStateException.class, () -> new TaskTombstonePurger(null, null, properties, null));
+    }
+}
@@ -0,0 +1,12 @@
+package ru.kolokolnin.todolist.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class ReactiveTodolistApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(ReactiveTodolistApplication.class, args);
+	}
+}
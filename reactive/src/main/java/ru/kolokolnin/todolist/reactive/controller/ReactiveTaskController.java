@@ -1,7 +1,8 @@
-package ru.kolokolnin.todolist.controller;
+package ru.kolokolnin.todolist.reactive.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -10,7 +11,9 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,24 +21,27 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.kolokolnin.todolist.controller.TaskETags;
 import ru.kolokolnin.todolist.dto.ErrorResponse;
 import ru.kolokolnin.todolist.dto.TaskRequest;
 import ru.kolokolnin.todolist.dto.TaskResponse;
-import ru.kolokolnin.todolist.service.TaskService;
+import ru.kolokolnin.todolist.reactive.service.ReactiveTaskService;
 
-import java.util.List;
 import java.util.UUID;
 
 @Slf4j
 @RestController
 @RequestMapping("/api/v1/tasks")
 @RequiredArgsConstructor
-@Tag(name = "Tasks", description = "API для управления задачами")
-public class TaskController {
+@Tag(name = "Tasks", description = "Реактивное API для управления задачами")
+public class ReactiveTaskController {
 
-    private final TaskService taskService;
+    private final ReactiveTaskService taskService;
 
     @Operation(
             summary = "Создать новую задачу",
@@ -54,27 +60,33 @@ public class TaskController {
             )
     })
     @PostMapping
-    public ResponseEntity<TaskResponse> createTask(
-            @Valid @RequestBody TaskRequest taskRequest) {
-        log.info("POST /api/v1/tasks - Creating new task");
-        TaskResponse response = taskService.createTask(taskRequest);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    public Mono<ResponseEntity<TaskResponse>> createTask(@Valid @RequestBody TaskRequest taskRequest) {
+        log.debug("POST /api/v1/tasks - Creating new task");
+        return taskService.createTask(taskRequest)
+                .map(response -> ResponseEntity.status(HttpStatus.CREATED)
+                        .eTag(TaskETags.of(response))
+                        .body(response));
     }
 
     @Operation(
             summary = "Получить все задачи",
-            description = "Возвращает список всех существующих задач"
+            description = "Возвращает поток всех задач в порядке создания. "
+                    + "Строки читаются из базы по мере того, как клиент забирает ответ"
     )
     @ApiResponse(
             responseCode = "200",
             description = "Список задач успешно получен",
-            content = @Content(schema = @Schema(implementation = TaskResponse[].class))
+            content = {
+                    @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            array = @ArraySchema(schema = @Schema(implementation = TaskResponse.class))),
+                    @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = TaskResponse.class))
+            }
     )
-    @GetMapping
-    public ResponseEntity<List<TaskResponse>> getAllTasks() {
-        log.info("GET /api/v1/tasks - Retrieving all tasks");
-        List<TaskResponse> tasks = taskService.getAllTasks();
-        return ResponseEntity.ok(tasks);
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<TaskResponse> getAllTasks() {
+        log.debug("GET /api/v1/tasks - Streaming all tasks");
+        return taskService.getAllTasks();
     }
 
     @Operation(
@@ -87,6 +99,7 @@ public class TaskController {
                     description = "Задача успешно найдена",
                     content = @Content(schema = @Schema(implementation = TaskResponse.class))
             ),
+            @ApiResponse(responseCode = "304", description = "Задача не изменилась с версии из If-None-Match"),
             @ApiResponse(
                     responseCode = "404",
                     description = "Задача не найдена",
@@ -94,12 +107,20 @@ public class TaskController {
             )
     })
     @GetMapping("/{id}")
-    public ResponseEntity<TaskResponse> getTaskById(
+    public Mono<ResponseEntity<TaskResponse>> getTaskById(
             @Parameter(description = "UUID задачи", example = "a1b2c3d4-e5f6-7890-abcd-ef1234567890")
-            @PathVariable UUID id) {
-        log.info("GET /api/v1/tasks/{} - Retrieving task by ID", id);
-        TaskResponse task = taskService.getTaskById(id);
-        return ResponseEntity.ok(task);
+            @PathVariable UUID id,
+            @Parameter(description = "ETag ранее полученной версии задачи")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.debug("GET /api/v1/tasks/{} - Retrieving task by ID", id);
+        return taskService.getTaskById(id)
+                .map(task -> {
+                    String etag = TaskETags.of(task);
+                    if (ifNoneMatch != null && !TaskETags.noneMatch(ifNoneMatch, etag)) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+                    }
+                    return ResponseEntity.ok().eTag(etag).body(task);
+                });
     }
 
     @Operation(
@@ -121,16 +142,30 @@ public class TaskController {
                     responseCode = "404",
                     description = "Задача не найдена",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Задачу одновременно изменил другой запрос",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "Версия задачи не совпадает с If-Match",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
             )
     })
     @PutMapping("/{id}")
-    public ResponseEntity<TaskResponse> updateTask(
+    public Mono<ResponseEntity<TaskResponse>> updateTask(
             @Parameter(description = "UUID задачи", example = "a1b2c3d4-e5f6-7890-abcd-ef1234567890")
             @PathVariable UUID id,
+            @Parameter(description = "ETag версии, которую клиент собирается изменить")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody TaskRequest taskRequest) {
-        log.info("PUT /api/v1/tasks/{} - Updating task", id);
-        TaskResponse updatedTask = taskService.updateTask(id, taskRequest);
-        return ResponseEntity.ok(updatedTask);
+        log.debug("PUT /api/v1/tasks/{} - Updating task", id);
+        return taskService.updateTask(id, taskRequest, TaskETags.expectedVersion(id, ifMatch))
+                .map(updatedTask -> ResponseEntity.ok()
+                        .eTag(TaskETags.of(updatedTask))
+                        .body(updatedTask));
     }
 
     @Operation(
@@ -143,14 +178,21 @@ public class TaskController {
                     responseCode = "404",
                     description = "Задача не найдена",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "Версия задачи не совпадает с If-Match",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
             )
     })
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteTask(
+    public Mono<ResponseEntity<Void>> deleteTask(
             @Parameter(description = "UUID задачи", example = "a1b2c3d4-e5f6-7890-abcd-ef1234567890")
-            @PathVariable UUID id) {
-        log.info("DELETE /api/v1/tasks/{} - Deleting task", id);
-        taskService.deleteTask(id);
-        return ResponseEntity.noContent().build();
+            @PathVariable UUID id,
+            @Parameter(description = "ETag версии, которую клиент собирается удалить")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.debug("DELETE /api/v1/tasks/{} - Deleting task", id);
+        return taskService.deleteTask(id, TaskETags.expectedVersion(id, ifMatch))
+                .then(Mono.just(ResponseEntity.noContent().build()));
     }
 }
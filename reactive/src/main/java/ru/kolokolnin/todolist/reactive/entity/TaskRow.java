@@ -0,0 +1,51 @@
+package ru.kolokolnin.todolist.reactive.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("tasks")
+public class TaskRow {
+
+    @Id
+    private UUID id;
+
+    private String title;
+
+    private String description;
+
+    @Builder.Default
+    private Boolean completed = false;
+
+    private LocalDateTime completedAt;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    // Ids are assigned by the service, so a null version is what marks the row as new
+    @Version
+    private Long version;
+
+    public void setCompleted(Boolean completed) {
+        if (Boolean.TRUE.equals(completed) && completedAt == null) {
+            completedAt = LocalDateTime.now();
+        } else if (Boolean.FALSE.equals(completed)) {
+            completedAt = null;
+        }
+        this.completed = completed;
+    }
+}
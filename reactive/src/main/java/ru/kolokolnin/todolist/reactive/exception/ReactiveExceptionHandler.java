@@ -0,0 +1,73 @@
+package ru.kolokolnin.todolist.reactive.exception;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebInputException;
+import ru.kolokolnin.todolist.dto.ErrorResponse;
+import ru.kolokolnin.todolist.exception.PreconditionFailedException;
+import ru.kolokolnin.todolist.exception.TaskNotFoundException;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+
+    @ExceptionHandler(TaskNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleTaskNotFoundException(TaskNotFoundException ex) {
+        log.warn("Task not found: {}", ex.getMessage());
+        return error(HttpStatus.NOT_FOUND, "TASK_NOT_FOUND", ex.getMessage());
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailedException(PreconditionFailedException ex) {
+        log.warn("Precondition failed: {}", ex.getMessage());
+        return error(HttpStatus.PRECONDITION_FAILED, "PRECONDITION_FAILED", ex.getMessage());
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        log.warn("Concurrent modification: {}", ex.getMessage());
+        return error(HttpStatus.CONFLICT, "CONCURRENT_MODIFICATION",
+                "Task was modified concurrently, retry the request");
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleValidationExceptions(WebExchangeBindException ex) {
+        String errorMessage = ex.getFieldErrors()
+                .stream()
+                .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                .findFirst()
+                .orElse("Validation error");
+
+        log.warn("Validation error: {}", errorMessage);
+        return error(HttpStatus.BAD_REQUEST, "VALIDATION_ERROR", errorMessage);
+    }
+
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleServerWebInputException(ServerWebInputException ex) {
+        log.warn("Invalid request: {}", ex.getReason());
+        return error(HttpStatus.BAD_REQUEST, "VALIDATION_ERROR", ex.getReason());
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
+        log.error("Unexpected error occurred: ", ex);
+        return error(HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_SERVER_ERROR", "An unexpected error occurred");
+    }
+
+    private static ResponseEntity<ErrorResponse> error(HttpStatus status, String errorCode, String message) {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .message(message)
+                .errorCode(errorCode)
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        return ResponseEntity.status(status).body(errorResponse);
+    }
+}
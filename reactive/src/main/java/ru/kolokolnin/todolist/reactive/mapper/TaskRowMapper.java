@@ -0,0 +1,29 @@
+package ru.kolokolnin.todolist.reactive.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import ru.kolokolnin.todolist.dto.TaskRequest;
+import ru.kolokolnin.todolist.dto.TaskResponse;
+import ru.kolokolnin.todolist.reactive.entity.TaskRow;
+
+@Mapper(componentModel = "spring")
+public interface TaskRowMapper {
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "completedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    TaskRow toRow(TaskRequest taskRequest);
+
+    TaskResponse toResponse(TaskRow taskRow);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "completedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "completed", ignore = true)
+    void updateRowFromRequest(TaskRequest taskRequest, @MappingTarget TaskRow taskRow);
+}
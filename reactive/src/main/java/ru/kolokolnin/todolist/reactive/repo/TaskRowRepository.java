@@ -0,0 +1,29 @@
+package ru.kolokolnin.todolist.reactive.repo;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.kolokolnin.todolist.reactive.entity.TaskRow;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface TaskRowRepository extends ReactiveCrudRepository<TaskRow, UUID> {
+
+    // Same order as the keyset pages of the blocking API, served by idx_tasks_created_at_id
+    Flux<TaskRow> findAllByOrderByCreatedAtAscIdAsc();
+
+    @Modifying
+    @Query("delete from tasks where id = :id")
+    Mono<Integer> deleteTaskById(UUID id);
+
+    @Modifying
+    @Query("delete from tasks where id = :id and version = :version")
+    Mono<Integer> deleteByIdAndVersion(UUID id, Long version);
+
+    @Modifying
+    @Query("insert into task_tombstones (task_id, deleted_at) values (:id, :deletedAt)")
+    Mono<Integer> insertTombstone(UUID id, LocalDateTime deletedAt);
+}
@@ -0,0 +1,16 @@
+package ru.kolokolnin.todolist.reactive.service;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.kolokolnin.todolist.dto.TaskRequest;
+import ru.kolokolnin.todolist.dto.TaskResponse;
+
+import java.util.UUID;
+
+public interface ReactiveTaskService {
+    Mono<TaskResponse> createTask(TaskRequest taskRequest);
+    Flux<TaskResponse> getAllTasks();
+    Mono<TaskResponse> getTaskById(UUID id);
+    Mono<TaskResponse> updateTask(UUID id, TaskRequest taskRequest, Long expectedVersion);
+    Mono<Void> deleteTask(UUID id, Long expectedVersion);
+}
@@ -0,0 +1,112 @@
+package ru.kolokolnin.todolist.reactive.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.kolokolnin.todolist.dto.TaskRequest;
+import ru.kolokolnin.todolist.dto.TaskResponse;
+import ru.kolokolnin.todolist.exception.PreconditionFailedException;
+import ru.kolokolnin.todolist.exception.TaskNotFoundException;
+import ru.kolokolnin.todolist.reactive.entity.TaskRow;
+import ru.kolokolnin.todolist.reactive.mapper.TaskRowMapper;
+import ru.kolokolnin.todolist.reactive.repo.TaskRowRepository;
+import ru.kolokolnin.todolist.reactive.service.ReactiveTaskService;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReactiveTaskServiceImpl implements ReactiveTaskService {
+
+    private final TaskRowRepository taskRowRepository;
+    private final TaskRowMapper taskRowMapper;
+
+    @Override
+    @Transactional
+    public Mono<TaskResponse> createTask(TaskRequest taskRequest) {
+        log.debug("Creating new task with title: {}", taskRequest.title());
+
+        TaskRow taskRow = taskRowMapper.toRow(taskRequest);
+        taskRow.setId(UUID.randomUUID());
+        taskRow.setCompleted(Boolean.TRUE.equals(taskRequest.completed()));
+        LocalDateTime now = LocalDateTime.now();
+        taskRow.setCreatedAt(now);
+        taskRow.setUpdatedAt(now);
+
+        return taskRowRepository.save(taskRow)
+                .map(taskRowMapper::toResponse)
+                .doOnNext(response -> log.debug("Task created successfully with ID: {}", response.id()));
+    }
+
+    @Override
+    public Flux<TaskResponse> getAllTasks() {
+        log.debug("Streaming all tasks");
+        return taskRowRepository.findAllByOrderByCreatedAtAscIdAsc()
+                .map(taskRowMapper::toResponse);
+    }
+
+    @Override
+    public Mono<TaskResponse> getTaskById(UUID id) {
+        log.debug("Retrieving task with ID: {}", id);
+        return findTaskById(id).map(taskRowMapper::toResponse);
+    }
+
+    @Override
+    @Transactional
+    public Mono<TaskResponse> updateTask(UUID id, TaskRequest taskRequest, Long expectedVersion) {
+        log.debug("Updating task with ID: {}", id);
+
+        return findTaskById(id)
+                .flatMap(taskRow -> {
+                    if (expectedVersion != null && !expectedVersion.equals(taskRow.getVersion())) {
+                        return Mono.error(new PreconditionFailedException(id));
+                    }
+                    taskRowMapper.updateRowFromRequest(taskRequest, taskRow);
+                    if (taskRequest.completed() != null) {
+                        taskRow.setCompleted(taskRequest.completed());
+                    }
+                    taskRow.setUpdatedAt(LocalDateTime.now());
+                    // A concurrent writer between the read and this save surfaces as OptimisticLockingFailureException
+                    return taskRowRepository.save(taskRow);
+                })
+                .map(taskRowMapper::toResponse)
+                .doOnNext(response -> log.debug("Task updated successfully with ID: {}", id));
+    }
+
+    @Override
+    @Transactional
+    public Mono<Void> deleteTask(UUID id, Long expectedVersion) {
+        log.debug("Deleting task with ID: {}", id);
+
+        Mono<Integer> deleted = expectedVersion == null
+                ? taskRowRepository.deleteTaskById(id)
+                : taskRowRepository.deleteByIdAndVersion(id, expectedVersion);
+
+        return deleted
+                .flatMap(count -> count > 0 ? Mono.just(count) : missingOrModified(id, expectedVersion))
+                .then(taskRowRepository.insertTombstone(id, LocalDateTime.now()))
+                .doOnSuccess(ignored -> log.debug("Task deleted successfully with ID: {}", id))
+                .then();
+    }
+
+    private Mono<TaskRow> findTaskById(UUID id) {
+        return taskRowRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new TaskNotFoundException(id)));
+    }
+
+    private Mono<Integer> missingOrModified(UUID id, Long expectedVersion) {
+        if (expectedVersion == null) {
+            return Mono.error(new TaskNotFoundException(id));
+        }
+        return taskRowRepository.existsById(id)
+                .flatMap(exists -> Mono.error(exists
+                        ? new PreconditionFailedException(id)
+                        : new TaskNotFoundException(id)));
+    }
+}
@@ -0,0 +1,133 @@
+package ru.kolokolnin.todolist.reactive.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import ru.kolokolnin.todolist.dto.TaskRequest;
+import ru.kolokolnin.todolist.dto.TaskResponse;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+class ReactiveTaskControllerIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void createTask_ThenGetById_ShouldRoundTripWithETag() {
+        // Given
+        TaskResponse created = createTask(new TaskRequest("Reactive Task", "Description", true));
+        String etag = "\"" + created.id() + "-" + created.version() + "\"";
+
+        // When & Then
+        webTestClient.get().uri("/api/v1/tasks/{id}", created.id())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, etag)
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Reactive Task")
+                .jsonPath("$.completed").isEqualTo(true);
+
+        webTestClient.get().uri("/api/v1/tasks/{id}", created.id())
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified();
+    }
+
+    @Test
+    void getAllTasks_AsNdjson_ShouldStreamCreatedTasks() {
+        // Given
+        TaskResponse first = createTask(new TaskRequest("Streamed 1", null, false));
+        TaskResponse second = createTask(new TaskRequest("Streamed 2", null, false));
+
+        // When
+        Flux<TaskResponse> stream = webTestClient.get().uri("/api/v1/tasks")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(TaskResponse.class)
+                .getResponseBody()
+                .filter(task -> task.id().equals(first.id()) || task.id().equals(second.id()));
+
+        // Then
+        StepVerifier.create(stream)
+                .expectNextCount(2)
+                .verifyComplete();
+    }
+
+    @Test
+    void updateTask_WithStaleIfMatch_ShouldReturnPreconditionFailed() {
+        // Given
+        TaskResponse created = createTask(new TaskRequest("Versioned", null, false));
+
+        // When & Then
+        webTestClient.put().uri("/api/v1/tasks/{id}", created.id())
+                .header(HttpHeaders.IF_MATCH, "\"" + created.id() + "-" + (created.version() + 1) + "\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new TaskRequest("Updated", null, true))
+                .exchange()
+                .expectStatus().isEqualTo(412)
+                .expectBody()
+                .jsonPath("$.errorCode").isEqualTo("PRECONDITION_FAILED");
+    }
+
+    @Test
+    void deleteTask_ShouldRemoveTask() {
+        // Given
+        TaskResponse created = createTask(new TaskRequest("To delete", null, false));
+
+        // When & Then
+        webTestClient.delete().uri("/api/v1/tasks/{id}", created.id())
+                .exchange()
+                .expectStatus().isNoContent();
+
+        webTestClient.get().uri("/api/v1/tasks/{id}", created.id())
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.errorCode").isEqualTo("TASK_NOT_FOUND");
+    }
+
+    @Test
+    void createTask_WithBlankTitle_ShouldReturnValidationError() {
+        webTestClient.post().uri("/api/v1/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new TaskRequest("", null, false))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.errorCode").isEqualTo("VALIDATION_ERROR");
+    }
+
+    @Test
+    void getTaskById_WhenMissing_ShouldReturnNotFound() {
+        webTestClient.get().uri("/api/v1/tasks/{id}", UUID.randomUUID())
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    private TaskResponse createTask(TaskRequest request) {
+        TaskResponse response = webTestClient.post().uri("/api/v1/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(TaskResponse.class)
+                .returnResult()
+                .getResponseBody();
+        assertNotNull(response);
+        assertEquals(request.title(), response.title());
+        return response;
+    }
+}
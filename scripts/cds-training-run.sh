@@ -0,0 +1,20 @@
+#!/bin/sh
+# Builds the AOT-processed jar, extracts it and records a class data sharing archive from a training run.
+# Start the result with:
+#   java -XX:SharedArchiveFile=app/target/fast-startup/application.jsa -Dspring.aot.enabled=true \
+#        -Dspring.profiles.active=fast-startup -jar app/target/fast-startup/todo-list-0.0.1-SNAPSHOT.jar
+set -e
+
+cd "$(dirname "$0")/.."
+
+./mvnw -B -Pfast-startup -pl app -am clean package -DskipTests
+
+rm -rf app/target/fast-startup
+java -Djarmode=tools -jar app/target/todo-list-0.0.1-SNAPSHOT.jar extract --destination app/target/fast-startup
+
+# The training run stops right after the context refresh, so only startup classes land in the archive
+java -XX:ArchiveClassesAtExit=app/target/fast-startup/application.jsa \
+    -Dspring.aot.enabled=true \
+    -Dspring.profiles.active=fast-startup \
+    -Dspring.context.exit=onRefresh \
+    -jar app/target/fast-startup/todo-list-0.0.1-SNAPSHOT.jar
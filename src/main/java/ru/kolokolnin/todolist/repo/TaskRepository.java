@@ -1,11 +0,0 @@
-package ru.kolokolnin.todolist.repo;
-
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.stereotype.Repository;
-import ru.kolokolnin.todolist.entity.TaskEntity;
-
-import java.util.UUID;
-
-@Repository
-public interface TaskRepository extends JpaRepository<TaskEntity, UUID> {
-}